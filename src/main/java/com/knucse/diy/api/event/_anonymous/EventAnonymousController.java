@@ -0,0 +1,67 @@
+package com.knucse.diy.api.event._anonymous;
+
+import com.knucse.diy.domain.service.event.ChangeEventBroadcaster;
+import com.knucse.diy.domain.service.room.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/application")
+@RequiredArgsConstructor
+@PreAuthorize("permitAll()")
+@Tag(name = "변경 알림(사용자)", description = "사용자용 예약/열쇠 변경 알림 API")
+public class EventAnonymousController {
+
+    private final ChangeEventBroadcaster changeEventBroadcaster;
+    private final RoomService roomService;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "예약/열쇠 변경 구독",
+            description = "사용자는 공간의 열쇠 상태 변경과 지정한 월의 예약 변경을 Server-Sent Events로 받을 수 있습니다. "
+                    + "이벤트 이름은 subscribed, reservation, room-key, overflow이며, "
+                    + "overflow를 받으면 놓친 변경이 있으므로 예약/열쇠 정보를 다시 조회해야 합니다. "
+                    + "roomId가 없으면 기본 공간, month가 없으면 이번 달을 구독합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "400", description = "구독할 수 있는 월 수 초과 (code: EVENT_MONTHS_EXCEEDED)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
+            @ApiResponse(responseCode = "429", description = "클라이언트(IP)별 동시 구독 수 초과 (code: EVENT_CLIENT_SUBSCRIBER_LIMIT_EXCEEDED) 또는 요청 수 초과 (code: TOO_MANY_REQUESTS)"),
+            @ApiResponse(responseCode = "503", description = "구독자 수 초과 (code: EVENT_SUBSCRIBER_LIMIT_EXCEEDED)"),
+    })
+    public ResponseEntity<SseEmitter> subscribe(
+            @RequestParam(value = "roomId", required = false) Long roomId,
+            @Parameter(description = "구독할 월 (yyyy-MM), 여러 번 지정 가능")
+            @RequestParam(value = "month", required = false) List<YearMonth> months,
+            HttpServletRequest request
+    ) {
+        Long resolvedRoomId = roomService.resolveRoomId(roomId);
+        List<YearMonth> subscribedMonths = months == null || months.isEmpty() ? List.of(YearMonth.now()) : months;
+
+        SseEmitter emitter = changeEventBroadcaster.subscribe(request.getRemoteAddr(), resolvedRoomId, subscribedMonths);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .cacheControl(CacheControl.noStore())
+                //nginx 등 프록시가 이벤트를 모아서 보내지 않도록 함
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
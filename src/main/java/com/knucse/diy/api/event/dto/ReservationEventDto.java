@@ -0,0 +1,32 @@
+package com.knucse.diy.api.event.dto;
+
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * SSE로 보내는 reservation 변경 알림. 학생 정보는 담지 않으며, 상세 내용이 필요하면 클라이언트가 다시 조회합니다.
+ */
+public record ReservationEventDto(
+        Long reservationId,
+        Long roomId,
+        LocalDate reservationDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        ReservationStatus status,
+        boolean deleted
+) {
+    public static ReservationEventDto fromEvent(ReservationChangedEvent event) {
+        return new ReservationEventDto(
+                event.reservationId(),
+                event.roomId(),
+                event.reservationDate(),
+                event.startTime(),
+                event.endTime(),
+                event.status(),
+                event.deleted()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.knucse.diy.api.event.dto;
+
+import com.knucse.diy.domain.event.key.RoomKeyChangedEvent;
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+
+/**
+ * SSE로 보내는 열쇠 상태 변경 알림. holder 정보는 담지 않습니다.
+ */
+public record RoomKeyEventDto(
+        Long keyId,
+        Long roomId,
+        RoomKeyStatus status
+) {
+    public static RoomKeyEventDto fromEvent(RoomKeyChangedEvent event) {
+        return new RoomKeyEventDto(event.keyId(), event.roomId(), event.status());
+    }
+}
@@ -31,14 +31,16 @@ public class RoomKeyAnonymousController {
     private final RoomKeyService roomKeyService;
 
     @PostMapping("/roomkey/create")
-    @Operation(summary = "열쇠 생성", description = "관리자는 열쇠를 생성할 수 있습니다.")
+    @Operation(summary = "열쇠 생성", description = "관리자는 공간의 열쇠를 생성할 수 있습니다. roomId가 없으면 기본 공간의 열쇠를 생성합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "열쇠 생성 성공"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
     })
     public ResponseEntity<ApiSuccessResult<KeyReadDto>> createRoomKey(
+            @RequestParam(value = "roomId", required = false) Long roomId
     ) {
 
-        KeyReadDto responseBody = roomKeyService.createKey();
+        KeyReadDto responseBody = roomKeyService.createKey(roomId);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -47,14 +49,17 @@ public class RoomKeyAnonymousController {
     }
 
     @GetMapping("/roomkey")
-    @Operation(summary = "열쇠 조회", description = "사용자는 열쇠를 조회할 수 있습니다.")
+    @Operation(summary = "열쇠 조회", description = "사용자는 공간의 열쇠를 조회할 수 있습니다. roomId가 없으면 기본 공간의 열쇠를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "열쇠 조회 성공"),
             @ApiResponse(responseCode = "404", description = "열쇠 조회 실패 (code: KEY_NOT_FOUND)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
     })
-    public ResponseEntity<ApiSuccessResult<KeyReadDto>> getRoomKey() {
+    public ResponseEntity<ApiSuccessResult<KeyReadDto>> getRoomKey(
+            @RequestParam(value = "roomId", required = false) Long roomId
+    ) {
 
-        RoomKey roomKey = roomKeyService.findFirstKey();
+        RoomKey roomKey = roomKeyService.findFirstKey(roomId);
         KeyReadDto responseBody = KeyReadDto.fromEntity(roomKey, roomKey.getHolder());
 
         return ResponseEntity
@@ -71,7 +76,8 @@ public class RoomKeyAnonymousController {
     @Operation(summary = "열쇠 대여", description = "사용자는 열쇠를 대여할 수 있습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "열쇠 대여 성공"),
-            @ApiResponse(responseCode = "400", description = "열쇠 대여 실패 (code: KEY_RENT_AUTHENTICATION_FAILED)")
+            @ApiResponse(responseCode = "400", description = "열쇠 대여 실패 (code: KEY_RENT_AUTHENTICATION_FAILED)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)")
     })
     public ResponseEntity<ApiSuccessResult<KeyReadDto>> rentRoomKey(
             @Valid @RequestBody KeyRentDto requestBody
@@ -89,7 +95,8 @@ public class RoomKeyAnonymousController {
     @Operation(summary = "열쇠 반납", description = "사용자는 열쇠를 반납할 수 있습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "열쇠 반납 성공"),
-            @ApiResponse(responseCode = "400", description = "열쇠 반납 실패 (code: KEY_RETURN_AUTHENTICATION_FAILED)")
+            @ApiResponse(responseCode = "400", description = "열쇠 반납 실패 (code: KEY_RETURN_AUTHENTICATION_FAILED)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)")
     })
     public ResponseEntity<ApiSuccessResult<KeyReadDto>> returnRoomKey(
             @Valid @RequestBody KeyReturnDto requestBody
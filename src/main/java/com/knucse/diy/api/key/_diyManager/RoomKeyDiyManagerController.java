@@ -1,10 +1,11 @@
 package com.knucse.diy.api.key._diyManager;
 
-import com.knucse.diy.api.key.dto.KeyHistoryReadDto;
+import com.knucse.diy.api.key.dto.KeyHistoryPageDto;
 import com.knucse.diy.api.key.dto.KeyReadDto;
 import com.knucse.diy.api.key.dto.KeyRentDto;
 import com.knucse.diy.common.util.api.ApiResponseUtil;
 import com.knucse.diy.common.util.api.ApiSuccessResult;
+import com.knucse.diy.common.util.export.ExportFormat;
 import com.knucse.diy.domain.model.key.RoomKeyStatus;
 import com.knucse.diy.domain.service.key.RoomKeyHistoryService;
 import com.knucse.diy.domain.service.key.RoomKeyService;
@@ -14,11 +15,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/admin")
@@ -30,27 +35,58 @@ public class RoomKeyDiyManagerController {
     private final RoomKeyService roomKeyService;
 
     @GetMapping("/roomkeyhistory")
-    @Operation(summary = "열쇠 히스토리 조회", description = "관리자는 열쇠 히스토리를 조회할 수 있습니다.")
+    @Operation(summary = "열쇠 히스토리 조회", description = "관리자는 기간, 공간, 학번, 열쇠 상태로 열쇠 히스토리를 최신순으로 조회할 수 있습니다. "
+            + "기간을 지정하지 않으면 최근 30일을 조회하며, 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "열쇠 히스토리 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 기간이 잘못됨 (code: KEY_HISTORY_RANGE_INVALID)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor (code: KEY_HISTORY_CURSOR_INVALID)"),
     })
-    public ResponseEntity<ApiSuccessResult<List<KeyHistoryReadDto>>> getRoomKeyHistory() {
-
-        List<KeyHistoryReadDto> responseBody = roomKeyHistoryService.findAllRoomKeyHistory();
+    public ResponseEntity<ApiSuccessResult<KeyHistoryPageDto>> getRoomKeyHistory(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "roomId", required = false) Long roomId,
+            @RequestParam(value = "studentNumber", required = false) String studentNumber,
+            @RequestParam(value = "status", required = false) RoomKeyStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + RoomKeyHistoryService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        KeyHistoryPageDto responseBody = roomKeyHistoryService.findRoomKeyHistory(from, to, roomId, studentNumber, status, cursor, size);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponseUtil.success(HttpStatus.CREATED, responseBody));
     }
 
+    @GetMapping("/roomkeyhistory/export")
+    @Operation(summary = "열쇠 히스토리 내보내기", description = "관리자는 모든 열쇠 히스토리를 NDJSON 혹은 CSV 파일로 내려받을 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "열쇠 히스토리 내보내기 성공"),
+    })
+    public ResponseEntity<StreamingResponseBody> exportRoomKeyHistory(
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        StreamingResponseBody responseBody =
+                outputStream -> roomKeyHistoryService.exportRoomKeyHistory(format, outputStream);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("roomkeyhistory." + format.getExtension()).build().toString())
+                .body(responseBody);
+    }
+
     @PatchMapping("/roomkey/return")
-    @Operation(summary = "열쇠 반납 처리", description = "관리자는 강제로 열쇠를 반납상태로 바꿀 수 있습니다.")
+    @Operation(summary = "열쇠 반납 처리", description = "관리자는 강제로 공간의 열쇠를 반납상태로 바꿀 수 있습니다. roomId가 없으면 기본 공간의 열쇠를 처리합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "열쇠 대여 성공"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
     })
     public ResponseEntity<ApiSuccessResult<KeyReadDto>> returnRoomKey(
+            @RequestParam(value = "roomId", required = false) Long roomId
     ) {
-        KeyReadDto responseBody = roomKeyService.updateRoomKey(null, RoomKeyStatus.KEEPING);
+        KeyReadDto responseBody = roomKeyService.updateRoomKey(roomId, null, RoomKeyStatus.KEEPING);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -2,11 +2,13 @@ package com.knucse.diy.api.key.dto;
 
 import com.knucse.diy.domain.model.key.RoomKey;
 import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import com.knucse.diy.domain.model.room.Room;
 
 public record KeyCreateDto(
         ) {
-    public RoomKey toEntity(){
+    public RoomKey toEntity(Room room){
         return RoomKey.builder()
+                .room(room)
                 .holder(null)
                 .status(RoomKeyStatus.KEEPING)
                 .build();
@@ -0,0 +1,47 @@
+package com.knucse.diy.api.key.dto;
+
+import com.knucse.diy.domain.exception.key.KeyHistoryCursorInvalidException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 열쇠 히스토리 keyset pagination의 위치. (date, id) 내림차순 목록에서 마지막으로 내려준 히스토리를 가리킵니다.
+ * from은 첫 페이지에서 정해진 조회 시작 시각으로, 이후 페이지가 같은 기간을 이어서 조회하도록 함께 담습니다.
+ */
+public record KeyHistoryCursor(
+        LocalDateTime from,
+        LocalDateTime date,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static KeyHistoryCursor fromReadDto(LocalDateTime from, KeyHistoryReadDto readDto) {
+        return new KeyHistoryCursor(from, readDto.date(), readDto.id());
+    }
+
+    public String encode() {
+        String raw = from + DELIMITER + date + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode()로 만든 문자열
+     * @return 복원된 KeyHistoryCursor
+     * @throws KeyHistoryCursorInvalidException "KEY_HISTORY_CURSOR_INVALID"
+     */
+    public static KeyHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new KeyHistoryCursorInvalidException();
+            }
+            return new KeyHistoryCursor(LocalDateTime.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new KeyHistoryCursorInvalidException();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.knucse.diy.api.key.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * keyset pagination으로 조회한 열쇠 히스토리의 한 페이지 (최신순)
+ * nextCursor는 다음 페이지 요청에 cursor로 그대로 넘기면 되고, 마지막 페이지라면 null입니다.
+ */
+public record KeyHistoryPageDto(
+        List<KeyHistoryReadDto> histories,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * size + 1개까지 조회한 결과로 페이지를 만듭니다. size를 넘는 한 건은 다음 페이지 존재 여부 확인에만 쓰입니다.
+     * @param from 이번 조회에 쓴 시작 시각, nextCursor에 담김
+     */
+    public static KeyHistoryPageDto of(List<KeyHistoryReadDto> fetched, int size, LocalDateTime from) {
+        if (fetched.size() <= size) {
+            return new KeyHistoryPageDto(fetched, null, false);
+        }
+
+        List<KeyHistoryReadDto> page = fetched.subList(0, size);
+        String nextCursor = KeyHistoryCursor.fromReadDto(from, page.get(size - 1)).encode();
+        return new KeyHistoryPageDto(List.copyOf(page), nextCursor, true);
+    }
+}
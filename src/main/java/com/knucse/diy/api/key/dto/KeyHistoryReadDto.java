@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @Builder
 public record KeyHistoryReadDto(
         Long id,
+        Long roomId,
         String studentName,
         String studentNumber,
         LocalDateTime date,
@@ -18,6 +19,7 @@ public record KeyHistoryReadDto(
     public static KeyHistoryReadDto fromEntity(RoomKeyHistory roomKeyHistory) {
         return KeyHistoryReadDto.builder()
                 .id(roomKeyHistory.getId())
+                .roomId(roomKeyHistory.getRoomId())
                 .studentName(roomKeyHistory.getStudentName())
                 .studentNumber(roomKeyHistory.getStudentNumber())
                 .date(roomKeyHistory.getDate())
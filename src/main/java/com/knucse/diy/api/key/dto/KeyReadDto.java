@@ -10,10 +10,15 @@ import java.time.LocalDateTime;
 @Builder
 public record KeyReadDto(
         Long id,
+        Long roomId,
         String holderName,
         RoomKeyStatus status
 ) {
     public static KeyReadDto fromEntity(RoomKey key, Student holder){
+        return of(key.getId(), key.getRoomId(), holder, key.getStatus());
+    }
+
+    public static KeyReadDto of(Long keyId, Long roomId, Student holder, RoomKeyStatus status){
         String holderName;
         if(holder == null){
             holderName = "null";
@@ -22,9 +27,10 @@ public record KeyReadDto(
         }
 
         return KeyReadDto.builder()
-                .id(key.getId())
+                .id(keyId)
+                .roomId(roomId)
                 .holderName(holderName)
-                .status(key.getStatus())
+                .status(status)
                 .build();
     }
 }
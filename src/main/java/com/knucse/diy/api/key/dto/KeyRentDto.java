@@ -4,6 +4,13 @@ import com.knucse.diy.domain.model.student.Student;
 import jakarta.validation.constraints.NotNull;
 
 public record KeyRentDto(
-        @NotNull String studentName, @NotNull String studentNumber
+        @NotNull String studentName, @NotNull String studentNumber,
+        Long roomId
         ) {
+    /**
+     * roomId 없이 요청하는 기존 클라이언트용. 기본 공간의 열쇠를 대여합니다.
+     */
+    public KeyRentDto(String studentName, String studentNumber) {
+        this(studentName, studentNumber, null);
+    }
 }
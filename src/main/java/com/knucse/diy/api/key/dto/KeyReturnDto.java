@@ -3,6 +3,13 @@ package com.knucse.diy.api.key.dto;
 import jakarta.validation.constraints.NotNull;
 
 public record KeyReturnDto(
-        @NotNull String studentName, @NotNull String studentNumber
+        @NotNull String studentName, @NotNull String studentNumber,
+        Long roomId
 ) {
+    /**
+     * roomId 없이 요청하는 기존 클라이언트용. 기본 공간의 열쇠를 반납합니다.
+     */
+    public KeyReturnDto(String studentName, String studentNumber) {
+        this(studentName, studentNumber, null);
+    }
 }
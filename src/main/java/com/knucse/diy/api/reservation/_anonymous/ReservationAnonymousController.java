@@ -1,9 +1,11 @@
 package com.knucse.diy.api.reservation._anonymous;
 
+import com.knucse.diy.api.reservation.dto.AvailabilityReadDto;
 import com.knucse.diy.api.reservation.dto.ReservationDeleteDto;
 import com.knucse.diy.api.reservation.dto.ReservationUpdateDto;
 import com.knucse.diy.common.util.api.ApiResponseUtil;
 import jakarta.validation.Path;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import com.knucse.diy.api.reservation.dto.ReservationCreateDto;
 import com.knucse.diy.api.reservation.dto.ReservationReadDto;
@@ -19,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -32,13 +35,15 @@ public class ReservationAnonymousController {
     private final ReservationService reservationService;
 
     @PostMapping("/reservation/create")
-    @Operation(summary = "예약 생성", description = "사용자는 예약 가능한 시간대에 예약을 할 수 있습니다.")
+    @Operation(summary = "예약 생성", description = "사용자는 예약 가능한 시간대에 예약을 할 수 있습니다. roomId가 없으면 기본 공간에 예약합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "예약 생성 성공"),
             @ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
             @ApiResponse(responseCode = "409", description = "시간이 중복되는 예약이 존재함 (code: RESERVATION_DUPLICATED)"),
             @ApiResponse(responseCode = "409", description = "하루에 하나의 예약만 가능함 (code: DAILY_LIMIT_REACHED"),
-            @ApiResponse(responseCode = "400", description = "인증 코드는 4자리 숫자여야함 (code: AUTHENTICATION_CODE_MUST_BE_4_DIGITS)")
+            @ApiResponse(responseCode = "400", description = "인증 코드는 4자리 숫자여야함 (code: AUTHENTICATION_CODE_MUST_BE_4_DIGITS)"),
+            @ApiResponse(responseCode = "400", description = "열쇠 미반납 등으로 예약이 제한된 학생 (code: RESERVATION_BLACK_LISTED)")
     })
     public ResponseEntity<ApiSuccessResult<ReservationReadDto>> createReservation(
             @Valid @RequestBody ReservationCreateDto requestBody
@@ -67,68 +72,124 @@ public class ReservationAnonymousController {
     }
 
     @GetMapping("/reservation/date/{year}/{month}")
-    @Operation(summary = "예약 월별로 조회", description = "사용자는 월별로 예약 정보를 조회할 수 있습니다.")
+    @Operation(summary = "예약 월별로 조회", description = "사용자는 공간별, 월별로 예약 정보를 조회할 수 있습니다. roomId가 없으면 기본 공간을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
     })
     public ResponseEntity<ApiSuccessResult<List<ReservationReadDto>>> findReservationByYearMonth(
             @PathVariable("year") int year,
-            @PathVariable("month") int month
+            @PathVariable("month") int month,
+            @RequestParam(value = "roomId", required = false) Long roomId,
+            WebRequest webRequest
     ) {
         YearMonth yearMonth = YearMonth.of(year,month);
-        List<ReservationReadDto> responseBody = reservationService.findReservationsByMonth(yearMonth);
 
+        //변경이 없다면 조회 없이 304 반환
+        String eTag = reservationService.getReservationsETag(roomId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<ReservationReadDto> responseBody = reservationService.findReservationsByMonth(roomId, yearMonth);
+
+        //지난 달도 전날 예약, 관리자의 승인/취소/삭제로 바뀔 수 있으므로 매번 ETag로 재검증하도록 함
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
                 .body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
     }
 
     @GetMapping("/reservation/limit/{year}/{month}/{date}")
-    @Operation(summary = "범위 안의 예약 조회", description = "사용자는 특정 범위의 예약을 조회할 수 있습니다.")
+    @Operation(summary = "범위 안의 예약 조회", description = "사용자는 공간별로 특정 범위의 예약을 조회할 수 있습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
     })
     public ResponseEntity<ApiSuccessResult<List<ReservationReadDto>>> findReservationByYearMonth(
             @PathVariable("year") int year,
             @PathVariable("month") int month,
             @PathVariable("date") int date,
             @RequestParam("minusDay") long minusDay,
-            @RequestParam("plusDay") long plusDay
+            @RequestParam("plusDay") long plusDay,
+            @RequestParam(value = "roomId", required = false) Long roomId,
+            WebRequest webRequest
             ) {
         LocalDate targetDate = LocalDate.of(year, month, date);
-        List<ReservationReadDto> responseBody = reservationService.getReservationsWithinRange(targetDate, minusDay,plusDay);
+
+        String eTag = reservationService.getReservationsETag(roomId, targetDate.minusDays(minusDay), targetDate.plusDays(plusDay));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<ReservationReadDto> responseBody = reservationService.getReservationsWithinRange(roomId, targetDate, minusDay,plusDay);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
                 .body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
     }
 
     @GetMapping("/reservation/range")
-    @Operation(summary = "날짜 범위 안의 예약 조회", description = "사용자는 특정 날짜 사이의 예약을 조회할 수 있습니다.")
+    @Operation(summary = "날짜 범위 안의 예약 조회", description = "사용자는 공간별로 특정 날짜 사이의 예약을 조회할 수 있습니다.")
     @ApiResponses(value ={
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)"),
     })
     public ResponseEntity<ApiSuccessResult<List<ReservationReadDto>>> findReservationByRange(
             @RequestParam("startDate") LocalDate startDate,
-            @RequestParam("endDate") LocalDate endDate
+            @RequestParam("endDate") LocalDate endDate,
+            @RequestParam(value = "roomId", required = false) Long roomId,
+            WebRequest webRequest
     ){
-        List<ReservationReadDto> responseBody = reservationService.getReservationsWithinRange(startDate, endDate);
+        String eTag = reservationService.getReservationsETag(roomId, startDate, endDate);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<ReservationReadDto> responseBody = reservationService.getReservationsWithinRange(roomId, startDate, endDate);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
                 .body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
     }
 
 
 
+    @GetMapping("/availability")
+    @Operation(summary = "날짜별 예약 점유 현황 조회", description = "사용자는 공간의 날짜 범위 15분 단위 점유 bitmap을 조회할 수 있습니다. (최대 62일) "
+            + "예약 가능 범위(오늘 - 1일 ~ 오늘 + 29일) 밖의 날짜는 결과에 포함되지 않습니다.")
+    @ApiResponses(value ={
+            @ApiResponse(responseCode = "200", description = "점유 현황 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 범위가 잘못됨 (code: AVAILABILITY_RANGE_EXCEEDED)"),
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)")
+    })
+    public ResponseEntity<ApiSuccessResult<List<AvailabilityReadDto>>> findAvailability(
+            @RequestParam("startDate") LocalDate startDate,
+            @RequestParam("endDate") LocalDate endDate,
+            @RequestParam(value = "roomId", required = false) Long roomId
+    ){
+        List<AvailabilityReadDto> responseBody = reservationService.getAvailability(roomId, startDate, endDate);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
+    }
+
     @GetMapping("/reservation/closest")
-    @Operation(summary = "가까운 3개의 예약 조회", description = "사용자는 가까운 예약 3개를 조회할 수 있습니다.")
+    @Operation(summary = "가까운 3개의 예약 조회", description = "사용자는 공간의 가까운 예약 3개를 조회할 수 있습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
-            @ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)")
+            @ApiResponse(responseCode = "404", description = "공간을 찾을 수 없음 (code: ROOM_NOT_FOUND)")
     })
-    public ResponseEntity<List<ReservationReadDto>> getClosestReservations() {
-        List<ReservationReadDto> reservations = reservationService.getClosestReservations(3); // Get up to 3 reservations
+    public ResponseEntity<List<ReservationReadDto>> getClosestReservations(
+            @RequestParam(value = "roomId", required = false) Long roomId
+    ) {
+        List<ReservationReadDto> reservations = reservationService.getClosestReservations(roomId, 3); // Get up to 3 reservations
         return ResponseEntity.ok(reservations);
     }
 
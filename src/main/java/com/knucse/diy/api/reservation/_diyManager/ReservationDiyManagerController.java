@@ -3,6 +3,7 @@ package com.knucse.diy.api.reservation._diyManager;
 import com.knucse.diy.api.reservation.dto.*;
 import com.knucse.diy.common.util.api.ApiResponseUtil;
 import com.knucse.diy.common.util.api.ApiSuccessResult;
+import com.knucse.diy.common.util.export.ExportFormat;
 import com.knucse.diy.domain.model.reservation.ReservationStatus;
 import com.knucse.diy.domain.service.reservation.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,10 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -126,15 +130,18 @@ public class ReservationDiyManagerController {
     }
 
     @GetMapping("/reservation/studentName")
-    @Operation(summary = "특정 학생 이름으로 예약 조회", description = "관리자는 학생의 이름으로 예약을 조회할 수 있습니다.")
+    @Operation(summary = "특정 학생 이름으로 예약 조회", description = "관리자는 학생의 이름으로 예약을 조회할 수 있습니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor (code: RESERVATION_CURSOR_INVALID)"),
             @ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)")
     })
-    public ResponseEntity<ApiSuccessResult<List<ReservationReadDto>>> findReservationByStudentName(
-            @RequestParam("studentName") String studentName
+    public ResponseEntity<ApiSuccessResult<ReservationPageDto>> findReservationByStudentName(
+            @RequestParam("studentName") String studentName,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + ReservationService.DEFAULT_PAGE_SIZE) int size
     ) {
-        List<ReservationReadDto> responseBody = reservationService.findReservationByStudentName(studentName);
+        ReservationPageDto responseBody = reservationService.findReservationByStudentName(studentName, cursor, size);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -142,15 +149,18 @@ public class ReservationDiyManagerController {
     }
 
     @GetMapping("/reservation/studentNumber")
-    @Operation(summary = "특정 학생 학번으로 예약 조회", description = "관리자는 학생의 학번으로 예약을 조회할 수 있습니다.")
+    @Operation(summary = "특정 학생 학번으로 예약 조회", description = "관리자는 학생의 학번으로 예약을 조회할 수 있습니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor (code: RESERVATION_CURSOR_INVALID)"),
             @ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음 (code: STUDENT_NOT_FOUND)")
     })
-    public ResponseEntity<ApiSuccessResult<List<ReservationReadDto>>> findReservationByStudentNumber(
-            @RequestParam("studentNumber") String studentNumber
+    public ResponseEntity<ApiSuccessResult<ReservationPageDto>> findReservationByStudentNumber(
+            @RequestParam("studentNumber") String studentNumber,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + ReservationService.DEFAULT_PAGE_SIZE) int size
     ) {
-        List<ReservationReadDto> responseBody = reservationService.findReservationByStudentNumber(studentNumber);
+        ReservationPageDto responseBody = reservationService.findReservationByStudentNumber(studentNumber, cursor, size);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -158,14 +168,50 @@ public class ReservationDiyManagerController {
     }
 
     @GetMapping("/reservation/status")
-    @Operation(summary = "예약 상태로 예약 조회", description = "관리자는 예약 상태로 예약을 조회할 수 있습니다.")
+    @Operation(summary = "예약 상태로 예약 조회", description = "관리자는 예약 상태로 예약을 조회할 수 있습니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor (code: RESERVATION_CURSOR_INVALID)"),
     })
-    public ResponseEntity<ApiSuccessResult<List<ReservationReadDto>>> findReservationByStatus(
-            @RequestParam("status") ReservationStatus status
+    public ResponseEntity<ApiSuccessResult<ReservationPageDto>> findReservationByStatus(
+            @RequestParam("status") ReservationStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + ReservationService.DEFAULT_PAGE_SIZE) int size
     ) {
-        List<ReservationReadDto> responseBody = reservationService.findReservationByStatus(status);
+        ReservationPageDto responseBody = reservationService.findReservationByStatus(status, cursor, size);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
+    }
+
+    @GetMapping("/reservation/export")
+    @Operation(summary = "예약 상태로 예약 내보내기", description = "관리자는 예약 상태로 모든 예약을 NDJSON 혹은 CSV 파일로 내려받을 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "예약 내보내기 성공"),
+    })
+    public ResponseEntity<StreamingResponseBody> exportReservationByStatus(
+            @RequestParam("status") ReservationStatus status,
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        StreamingResponseBody responseBody =
+                outputStream -> reservationService.exportReservationsByStatus(status, format, outputStream);
+
+        String fileName = "reservations-" + status.name().toLowerCase() + "." + format.getExtension();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(responseBody);
+    }
+
+    @GetMapping("/reservation/cache")
+    @Operation(summary = "월별 예약 캐시 통계 조회", description = "관리자는 월별 예약 조회 캐시의 hit/miss/eviction 횟수를 조회할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+    })
+    public ResponseEntity<ApiSuccessResult<ReservationMonthCacheStatsDto>> getMonthCacheStats() {
+        ReservationMonthCacheStatsDto responseBody = reservationService.getMonthCacheStats();
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -0,0 +1,30 @@
+package com.knucse.diy.api.reservation.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 하루의 15분 단위 점유 상태
+ * occupancy는 96bit(12byte)를 Base64로 인코딩한 값이며,
+ * i번째 byte의 j번째 bit(최하위 bit부터)가 (8 * i + j) * 15분부터 15분 동안 예약이 있는지를 나타냅니다.
+ */
+public record AvailabilityReadDto(
+        LocalDate date,
+        String occupancy
+) {
+    private static final int OCCUPANCY_BYTES = 12;
+
+    public static AvailabilityReadDto fromOccupancy(LocalDate date, long[] occupancy) {
+        ByteBuffer buffer = ByteBuffer.allocate(occupancy.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long word : occupancy) {
+            buffer.putLong(word);
+        }
+
+        byte[] bytes = new byte[OCCUPANCY_BYTES];
+        System.arraycopy(buffer.array(), 0, bytes, 0, OCCUPANCY_BYTES);
+
+        return new AvailabilityReadDto(date, Base64.getEncoder().encodeToString(bytes));
+    }
+}
@@ -2,6 +2,7 @@ package com.knucse.diy.api.reservation.dto;
 
 import com.knucse.diy.domain.model.reservation.Reservation;
 import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.room.Room;
 import com.knucse.diy.domain.model.student.Student;
 import jakarta.validation.constraints.NotNull;
 
@@ -12,11 +13,21 @@ public record ReservationCreateDto(
         @NotNull String studentName, @NotNull String studentNumber,
         @NotNull LocalDate reservationDate,
         @NotNull LocalTime startTime, @NotNull LocalTime endTime,
-        @NotNull String reason, @NotNull String authCode
+        @NotNull String reason, @NotNull String authCode,
+        Long roomId
 ) {
-    public Reservation toEntity(Student student, String hashedAuthCode){
+    /**
+     * roomId 없이 요청하는 기존 클라이언트용. 기본 공간에 예약합니다.
+     */
+    public ReservationCreateDto(String studentName, String studentNumber, LocalDate reservationDate,
+                                LocalTime startTime, LocalTime endTime, String reason, String authCode) {
+        this(studentName, studentNumber, reservationDate, startTime, endTime, reason, authCode, null);
+    }
+
+    public Reservation toEntity(Student student, Room room, String hashedAuthCode){
         return Reservation.builder()
                 .student(student)
+                .room(room)
                 .reservationDate(reservationDate)
                 .startTime(startTime)
                 .endTime(endTime)
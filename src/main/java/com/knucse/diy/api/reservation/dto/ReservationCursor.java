@@ -0,0 +1,48 @@
+package com.knucse.diy.api.reservation.dto;
+
+import com.knucse.diy.domain.exception.reservation.ReservationCursorInvalidException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 목록 keyset pagination의 위치. (reservationDate, startTime, id) 순으로 정렬된 목록에서 마지막으로 내려준 예약을 가리킵니다.
+ * 클라이언트에는 내부 형식을 드러내지 않도록 URL-safe Base64 문자열로 전달합니다.
+ */
+public record ReservationCursor(
+        LocalDate reservationDate,
+        LocalTime startTime,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ReservationCursor fromReadDto(ReservationReadDto readDto) {
+        return new ReservationCursor(readDto.reservationDate(), readDto.startTime(), readDto.id());
+    }
+
+    public String encode() {
+        String raw = reservationDate + DELIMITER + startTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode()로 만든 문자열
+     * @return 복원된 ReservationCursor
+     * @throws ReservationCursorInvalidException "RESERVATION_CURSOR_INVALID"
+     */
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new ReservationCursorInvalidException();
+            }
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReservationCursorInvalidException();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.knucse.diy.api.reservation.dto;
+
+public record ReservationMonthCacheStatsDto(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        int size,
+        int capacity
+) {
+}
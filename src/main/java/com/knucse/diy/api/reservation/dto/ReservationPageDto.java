@@ -0,0 +1,26 @@
+package com.knucse.diy.api.reservation.dto;
+
+import java.util.List;
+
+/**
+ * keyset pagination으로 조회한 예약 목록의 한 페이지
+ * nextCursor는 다음 페이지 요청에 cursor로 그대로 넘기면 되고, 마지막 페이지라면 null입니다.
+ */
+public record ReservationPageDto(
+        List<ReservationReadDto> reservations,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * size + 1개까지 조회한 결과로 페이지를 만듭니다. size를 넘는 한 건은 다음 페이지 존재 여부 확인에만 쓰입니다.
+     */
+    public static ReservationPageDto of(List<ReservationReadDto> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new ReservationPageDto(fetched, null, false);
+        }
+
+        List<ReservationReadDto> page = fetched.subList(0, size);
+        String nextCursor = ReservationCursor.fromReadDto(page.get(size - 1)).encode();
+        return new ReservationPageDto(List.copyOf(page), nextCursor, true);
+    }
+}
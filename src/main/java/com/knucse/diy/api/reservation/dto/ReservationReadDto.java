@@ -11,6 +11,7 @@ import java.time.LocalTime;
 @Builder
 public record ReservationReadDto(
         Long id,
+        Long roomId,
         String studentName,
         String studentNumber,
         LocalDate reservationDate,
@@ -23,6 +24,7 @@ public record ReservationReadDto(
     public static ReservationReadDto fromEntity(Reservation reservation) {
         return ReservationReadDto.builder()
                 .id(reservation.getId())
+                .roomId(reservation.getRoomId())
                 .studentName(reservation.getStudent().getStudentName())
                 .studentNumber(reservation.getStudent().getStudentNumber())
                 .reservationDate(reservation.getReservationDate())
@@ -0,0 +1,42 @@
+package com.knucse.diy.api.room._anonymous;
+
+import com.knucse.diy.api.room.dto.RoomReadDto;
+import com.knucse.diy.common.util.api.ApiResponseUtil;
+import com.knucse.diy.common.util.api.ApiSuccessResult;
+import com.knucse.diy.domain.service.room.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/application")
+@RequiredArgsConstructor
+@PreAuthorize("permitAll()")
+@Tag(name = "공간(사용자)", description = "사용자용 공간 API")
+public class RoomAnonymousController {
+
+    private final RoomService roomService;
+
+    @GetMapping("/room")
+    @Operation(summary = "공간 목록 조회", description = "사용자는 예약할 수 있는 공간 목록을 조회할 수 있습니다. 예약/열쇠 API의 roomId로 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "공간 목록 조회 성공"),
+    })
+    public ResponseEntity<ApiSuccessResult<List<RoomReadDto>>> findRooms() {
+        List<RoomReadDto> responseBody = roomService.findAllRooms();
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponseUtil.success(HttpStatus.OK, responseBody));
+    }
+}
@@ -0,0 +1,44 @@
+package com.knucse.diy.api.room._diyManager;
+
+import com.knucse.diy.api.room.dto.RoomCreateDto;
+import com.knucse.diy.api.room.dto.RoomReadDto;
+import com.knucse.diy.common.util.api.ApiResponseUtil;
+import com.knucse.diy.common.util.api.ApiSuccessResult;
+import com.knucse.diy.domain.service.room.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Tag(name = "공간 관리(동연의장)", description = "동연의장용 공간 API")
+public class RoomDiyManagerController {
+
+    private final RoomService roomService;
+
+    @PostMapping("/room")
+    @Operation(summary = "공간 생성", description = "관리자는 예약/열쇠를 따로 관리할 공간을 생성할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "공간 생성 성공"),
+            @ApiResponse(responseCode = "409", description = "같은 이름의 공간이 있음 (code: ROOM_DUPLICATED)"),
+    })
+    public ResponseEntity<ApiSuccessResult<RoomReadDto>> createRoom(
+            @Valid @RequestBody RoomCreateDto requestBody
+    ) {
+        RoomReadDto responseBody = roomService.createRoom(requestBody);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponseUtil.success(HttpStatus.CREATED, responseBody));
+    }
+}
@@ -0,0 +1,15 @@
+package com.knucse.diy.api.room.dto;
+
+import com.knucse.diy.domain.model.room.Room;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record RoomCreateDto(
+        @NotBlank @Size(max = 50) String name
+) {
+    public Room toEntity() {
+        return Room.builder()
+                .name(name)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.knucse.diy.api.room.dto;
+
+import com.knucse.diy.domain.model.room.Room;
+
+public record RoomReadDto(
+        Long id,
+        String name
+) {
+    public static RoomReadDto fromEntity(Room room) {
+        return new RoomReadDto(room.getId(), room.getName());
+    }
+}
@@ -1,28 +1,34 @@
 package com.knucse.diy.authentication.filter;
 
 
+import com.knucse.diy.authentication.principal.AdminPrincipal;
+import com.knucse.diy.authentication.principal.AdminPrincipalRegistry;
+import com.knucse.diy.common.util.jwt.JWTClaims;
 import com.knucse.diy.common.util.jwt.JWTUtil;
-import com.knucse.diy.domain.model.admin.Admin;
-import com.knucse.diy.domain.model.admin.AdminDetails;
 import com.knucse.diy.domain.model.student.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
-
+@Slf4j
 public class JWTFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JWTUtil jwtUtil;
 
-    public JWTFilter(JWTUtil jwtUtil) {
+    private final AdminPrincipalRegistry adminPrincipalRegistry;
+
+    public JWTFilter(JWTUtil jwtUtil, AdminPrincipalRegistry adminPrincipalRegistry) {
         this.jwtUtil = jwtUtil;
+        this.adminPrincipalRegistry = adminPrincipalRegistry;
     }
 
     // jwt를 검증하는 filter
@@ -33,43 +39,51 @@ public class JWTFilter extends OncePerRequestFilter {
         String authorization = request.getHeader("Authorization");
 
         //Authorization 헤더 검증
-        if(authorization == null || !authorization.startsWith("Bearer ")) {
+        if(authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
 
-            System.out.println("token null");
+            log.debug("token null");
             //지금 filter에서 request와 response를 다음 filter로 전달
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = authorization.split(" ")[1];
+        String token = authorization.substring(BEARER_PREFIX.length());
 
-        //토큰 소멸 시간 검증
-        if(jwtUtil.isExpired(token)) {
+        //서명과 토큰 소멸 시간을 한 번에 검증 (최근 검증한 토큰이라면 캐시된 claim 사용)
+        Optional<JWTClaims> claims = jwtUtil.verify(token);
+        if(claims.isEmpty()) {
 
-            System.out.println("token is expired");
+            log.debug("token is invalid or expired");
             filterChain.doFilter(request, response);
 
             return;
         }
 
-        String username = jwtUtil.getUsername(token);
-        String role = jwtUtil.getRole(token);
-
-
-        Admin admin = Admin.builder()
-                .username(username)
-                .role(Role.ROLE_DIY_MANAGER)
-                .password("temp")
-                .build();
+        Role role = parseRole(claims.get().role());
+        if(role == null) {
 
+            log.debug("token role is invalid");
+            filterChain.doFilter(request, response);
 
-        AdminDetails adminDetails = new AdminDetails(admin);
+            return;
+        }
 
-        //스프링 시큐리티 인증 토큰 생성
-        Authentication authToken = new UsernamePasswordAuthenticationToken(adminDetails, null, adminDetails.getAuthorities());
+        //(username, role)마다 미리 만들어 둔 불변 principal과 인증 객체를 재사용
+        AdminPrincipal principal = adminPrincipalRegistry.get(claims.get().username(), role);
         //세션에 사용자 등록
-        SecurityContextHolder.getContext().setAuthentication(authToken);
+        SecurityContextHolder.getContext().setAuthentication(principal.getAuthentication());
 
         filterChain.doFilter(request, response);
     }
+
+    private static Role parseRole(String role) {
+        if(role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.knucse.diy.authentication.principal;
+
+import com.knucse.diy.domain.model.student.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT로 인증된 관리자를 나타내는 불변 principal입니다.
+ * (username, role)마다 AdminPrincipalRegistry에 하나만 만들어 두고, 권한 목록과 인증 객체까지 미리 계산해 모든 요청에서 재사용합니다.
+ * 비밀번호는 갖지 않습니다.
+ */
+public final class AdminPrincipal implements UserDetails {
+
+    private final String username;
+
+    private final Role role;
+
+    private final List<GrantedAuthority> authorities;
+
+    private final Authentication authentication;
+
+    AdminPrincipal(String username, Role role) {
+        this.username = username;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.name()));
+        this.authentication = new AdminAuthentication(this);
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * SecurityContext에 넣을 인증 객체. 불변이므로 요청 간에 공유해도 안전합니다.
+     */
+    public Authentication getAuthentication() {
+        return authentication;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 인증이 끝난 상태로만 존재하는 불변 Authentication
+     */
+    private record AdminAuthentication(AdminPrincipal principal) implements Authentication {
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return principal.authorities;
+        }
+
+        @Override
+        public Object getCredentials() {
+            return null;
+        }
+
+        @Override
+        public Object getDetails() {
+            return null;
+        }
+
+        @Override
+        public Object getPrincipal() {
+            return principal;
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+            return true;
+        }
+
+        @Override
+        public void setAuthenticated(boolean isAuthenticated) {
+            throw new IllegalArgumentException("AdminPrincipal authentication is immutable");
+        }
+
+        @Override
+        public String getName() {
+            return principal.username;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.knucse.diy.authentication.principal;
+
+import com.knucse.diy.domain.model.student.Role;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * (username, role)별 AdminPrincipal을 한 번만 만들어 재사용하는 intern 저장소입니다.
+ * role별 map을 미리 만들어 두어 조회 시 복합 key 객체를 만들지 않습니다.
+ * 서명된 JWT의 username만 들어오므로 항목 수는 관리자 계정 수를 넘지 않습니다.
+ */
+@Component
+public class AdminPrincipalRegistry {
+
+    private final Map<Role, ConcurrentMap<String, AdminPrincipal>> principalsByRole = new EnumMap<>(Role.class);
+
+    public AdminPrincipalRegistry() {
+        for (Role role : Role.values()) {
+            principalsByRole.put(role, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @param username String
+     * @param role Role
+     * @return (username, role)의 AdminPrincipal. 같은 인자에는 항상 같은 인스턴스
+     */
+    public AdminPrincipal get(String username, Role role) {
+        ConcurrentMap<String, AdminPrincipal> principals = principalsByRole.get(role);
+        AdminPrincipal principal = principals.get(username);
+        if (principal != null) {
+            return principal;
+        }
+        return principals.computeIfAbsent(username, name -> new AdminPrincipal(name, role));
+    }
+}
@@ -0,0 +1,13 @@
+package com.knucse.diy.common.exception.support.business;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+@Getter
+public abstract class ServiceUnavailableException extends _ApplicationLogicException {
+	private final HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+	public ServiceUnavailableException(final String errorCode) {
+		super(errorCode);
+	}
+}
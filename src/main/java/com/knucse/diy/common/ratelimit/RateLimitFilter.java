@@ -0,0 +1,179 @@
+package com.knucse.diy.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.diy.common.util.api.ApiResponseUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 연산이 필요한 쓰기 요청(예약 생성, 열쇠 대여, 관리자 로그인)을 클라이언트 IP별, 학번(로그인은 username)별 token bucket으로 제한합니다.
+ * 연결을 오래 붙잡는 변경 알림(SSE) 구독 요청은 별도의 IP별 bucket으로 제한하여, 재연결이 많아도 같은 IP의 예약 생성 등을 막지 않습니다.
+ * Spring Security 필터 체인보다 앞에 등록되어, 거절된 요청은 인증/서비스 계층에 닿기 전에 429로 응답합니다.
+ * 학번은 JSON body에서 읽으므로 body를 미리 읽어 두고 이후 처리에 그대로 넘깁니다.
+ * body가 max-body-bytes보다 크면 학번 제한을 건너뛰지 않도록 413으로 거절합니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String TOO_MANY_REQUESTS_CODE = "TOO_MANY_REQUESTS";
+
+    public static final String PAYLOAD_TOO_LARGE_CODE = "PAYLOAD_TOO_LARGE";
+
+    //path -> method
+    private static final Map<String, String> LIMITED_ENDPOINTS = Map.of(
+            "/application/reservation/create", "POST",
+            "/application/roomkey/rent", "PATCH",
+            "/login", "POST",
+            "/application/events", "GET"
+    );
+
+    private static final String LOGIN_PATH = "/login";
+
+    private static final String EVENTS_PATH = "/application/events";
+
+    private final RateLimiter ipLimiter;
+
+    private final RateLimiter studentLimiter;
+
+    private final RateLimiter eventsLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    private final int maxBodyBytes;
+
+    public RateLimitFilter(RateLimiter ipLimiter, RateLimiter studentLimiter, RateLimiter eventsLimiter,
+                           ObjectMapper objectMapper, int maxBodyBytes) {
+        this.ipLimiter = ipLimiter;
+        this.studentLimiter = studentLimiter;
+        this.eventsLimiter = eventsLimiter;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getMethod().equals(LIMITED_ENDPOINTS.get(path(request)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = path(request);
+
+        if (EVENTS_PATH.equals(path)) {
+            long eventsWaitNanos = eventsLimiter.tryAcquire(request.getRemoteAddr());
+            if (eventsWaitNanos > 0) {
+                reject(response, eventsWaitNanos);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        HttpServletRequest forwarded = request;
+        String studentKey;
+        if (LOGIN_PATH.equals(path)) {
+            //LoginFilter도 같은 form parameter를 읽음
+            String username = request.getParameter("username");
+            studentKey = username == null ? null : "login:" + username;
+        } else {
+            CachedBodyHttpServletRequest cached = cacheBody(request);
+            if (cached == null) {
+                rejectTooLarge(response);
+                return;
+            }
+            forwarded = cached;
+            String studentNumber = studentNumber(cached.getBody());
+            studentKey = studentNumber == null ? null : "student:" + studentNumber;
+        }
+
+        if (studentKey != null) {
+            waitNanos = studentLimiter.tryAcquire(studentKey);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    /**
+     * 가득 찬 bucket을 지웁니다. RateLimitConfig에서 주기적으로 호출합니다.
+     */
+    public void evictIdleBuckets() {
+        int evicted = ipLimiter.evictFull() + studentLimiter.evictFull() + eventsLimiter.evictFull();
+        if (evicted > 0) {
+            log.debug("Rate limit buckets evicted: {}, remaining ip={}, student={}, events={}",
+                    evicted, ipLimiter.size(), studentLimiter.size(), eventsLimiter.size());
+        }
+    }
+
+    /**
+     * body를 최대 maxBodyBytes까지 읽어 둡니다.
+     * Content-Length가 없거나(chunked) 실제 길이와 다를 수 있으므로 header와 관계없이 한 byte 더 읽어 보고,
+     * maxBodyBytes를 넘으면 null을 반환합니다.
+     */
+    private CachedBodyHttpServletRequest cacheBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+
+        try (InputStream input = request.getInputStream()) {
+            byte[] body = input.readNBytes(maxBodyBytes + 1);
+            return body.length > maxBodyBytes ? null : new CachedBodyHttpServletRequest(request, body);
+        }
+    }
+
+    private String studentNumber(byte[] body) {
+        try {
+            JsonNode studentNumber = objectMapper.readTree(body).path("studentNumber");
+            //숫자로 보내도 DTO의 String 필드에 바인딩되므로 문자열이 아닌 scalar 값도 학번으로 봄
+            return studentNumber.isValueNode() && !studentNumber.isNull() ? studentNumber.asText() : null;
+        } catch (IOException e) {
+            //형식이 잘못된 body는 컨트롤러에서 400으로 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponseUtil.error(HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS_CODE));
+    }
+
+    private void rejectTooLarge(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponseUtil.error(HttpStatus.PAYLOAD_TOO_LARGE, PAYLOAD_TOO_LARGE_CODE));
+    }
+
+    /**
+     * Spring MVC가 handler를 찾을 때와 같이 decode하고 정리한 경로. /application/reservation/cr%65ate 처럼
+     * 인코딩한 경로로 제한을 피하지 못하도록 raw request URI를 쓰지 않습니다.
+     */
+    private static String path(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+}
@@ -0,0 +1,59 @@
+package com.knucse.diy.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * key(클라이언트 IP, 학번 등)별 TokenBucket 모음입니다.
+ * 가득 찬 bucket은 evictFull로 주기적으로 지워 key 수만큼 메모리가 계속 늘지 않도록 합니다.
+ */
+public class RateLimiter {
+
+    private final int capacity;
+
+    private final long intervalNanos;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity key당 연속으로 허용할 요청 수
+     * @param refillPerMinute key당 분당 다시 채워지는 요청 수
+     */
+    public RateLimiter(int capacity, int refillPerMinute) {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+    }
+
+    /**
+     * key의 bucket에서 token 하나를 꺼냅니다.
+     * @param key String
+     * @return 허용되었다면 0, 거절되었다면 다시 시도할 수 있을 때까지의 nano 초
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, intervalNanos, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * 가득 찬(한동안 요청이 없던) bucket을 지웁니다.
+     * @return 지운 bucket 수
+     */
+    public int evictFull() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
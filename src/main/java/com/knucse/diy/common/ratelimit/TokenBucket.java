@@ -0,0 +1,55 @@
+package com.knucse.diy.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock 없이 CAS 하나로 동작하는 token bucket입니다.
+ * 남은 token 수 대신 "bucket이 다시 가득 차는 시각"(GCRA의 theoretical arrival time) 하나만 AtomicLong에 저장하므로,
+ * 요청마다 객체를 만들지 않고 동시에 호출되어도 capacity를 넘겨 허용하지 않습니다.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+
+    //가득 찬 bucket에서 연속으로 허용할 수 있는 만큼의 시간 여유
+    private final long burstNanos;
+
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity 최대 token 수 (연속 허용 횟수)
+     * @param intervalNanos token 하나가 다시 채워지는 데 걸리는 시간
+     * @param nowNanos 생성 시각 (가득 찬 상태로 시작)
+     */
+    TokenBucket(int capacity, long intervalNanos, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = (capacity - 1) * intervalNanos;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * token 하나를 꺼냅니다.
+     * @param nowNanos System.nanoTime()
+     * @return 꺼냈다면 0, 아니라면 token이 생길 때까지 기다려야 하는 nano 초
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, nowNanos);
+            long waitNanos = base - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * bucket이 가득 차 있다면, 지워도 새로 만든 bucket과 다르지 않습니다.
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,115 @@
+package com.knucse.diy.common.util.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * record 한 건을 NDJSON 한 줄 혹은 CSV 한 행으로 출력 스트림에 바로 씁니다.
+ * 행을 모아두지 않으므로 내보내는 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * 첫 행은 바로 flush하여 클라이언트가 곧바로 응답을 받기 시작하도록 하고, 이후에는 FLUSH_INTERVAL 행마다 flush합니다.
+ */
+public class RowExportWriter<T extends Record> {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    //Excel이 UTF-8 CSV의 한글을 깨뜨리지 않도록 BOM을 붙임
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final ExportFormat format;
+    private final RecordComponent[] components;
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    private long rowCount;
+
+    public RowExportWriter(ExportFormat format, Class<T> rowType, ObjectMapper objectMapper, OutputStream outputStream) {
+        this.format = format;
+        this.components = rowType.getRecordComponents();
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader();
+        }
+    }
+
+    public void write(T row) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+            } else {
+                writeCsvRow(row);
+            }
+            writer.write('\n');
+
+            if (rowCount++ % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvHeader() {
+        try {
+            writer.write(UTF8_BOM);
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(components[i].getName());
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvRow(T row) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value;
+            try {
+                value = components[i].getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            if (value instanceof Number) {
+                writer.write(value.toString());
+            } else if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+    }
+
+    /**
+     * 학생 이름, 예약 사유 등 사용자가 입력한 값이 스프레드시트에서 수식으로 실행되지 않도록(CSV injection)
+     * =, +, -, @, tab, CR로 시작하는 값은 앞에 '를 붙이고 따옴표로 감쌉니다.
+     */
+    private static String escapeCsv(String value) {
+        if (!value.isEmpty() && isFormulaPrefix(value.charAt(0))) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
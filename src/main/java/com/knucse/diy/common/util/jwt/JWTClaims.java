@@ -0,0 +1,16 @@
+package com.knucse.diy.common.util.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 시간 검증을 통과한 JWT의 claim입니다.
+ * @param username 관리자 username
+ * @param role 관리자 role
+ * @param expiresAt 토큰 만료 시각
+ */
+public record JWTClaims(String username, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
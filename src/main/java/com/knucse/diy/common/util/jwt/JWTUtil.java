@@ -1,6 +1,9 @@
 package com.knucse.diy.common.util.jwt;
 
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -8,28 +11,81 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
 
-    public JWTUtil(@Value("${jwt.secret}") String secret){
+    //불변이고 thread-safe하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+
+    private final int verifiedCacheCapacity;
+
+    //최근 검증한 토큰의 SHA-256 digest -> claim. 원문 토큰은 보관하지 않음
+    private final Map<String, JWTClaims> verifiedCache;
+
+    public JWTUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.verified-cache-capacity:1024}") int verifiedCacheCapacity){
 
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedCacheCapacity = verifiedCacheCapacity;
+        this.verifiedCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JWTClaims> eldest) {
+                return size() > JWTUtil.this.verifiedCacheCapacity;
+            }
+        };
     }
 
-    public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username",String.class);
-    }
+    /**
+     * 토큰의 서명과 만료 시간을 한 번에 검증하고 claim을 반환합니다.
+     * 최근에 검증한 토큰이라면 서명 검증 없이 캐시된 claim을 반환하며, 캐시된 claim도 토큰 만료 시각이 지나면 사용하지 않습니다.
+     * @param token String
+     * @return 검증된 claim, 서명이 틀렸거나 형식이 잘못되었거나 만료되었다면 empty
+     */
+    public Optional<JWTClaims> verify(String token) {
+        Instant now = Instant.now();
+        String digest = digest(token);
 
-    public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role",String.class);
-    }
+        JWTClaims cached;
+        synchronized (verifiedCache) {
+            cached = verifiedCache.get(digest);
+            if (cached != null && cached.isExpired(now)) {
+                verifiedCache.remove(digest);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        JWTClaims claims;
+        try {
+            Claims payload = parser.parseSignedClaims(token).getPayload();
+            claims = new JWTClaims(
+                    payload.get("username", String.class),
+                    payload.get("role", String.class),
+                    payload.getExpiration().toInstant()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            //만료(ExpiredJwtException), 서명 불일치, 형식 오류
+            return Optional.empty();
+        }
 
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        synchronized (verifiedCache) {
+            verifiedCache.put(digest, claims);
+        }
+        return Optional.of(claims);
     }
 
     public String createJwt(String username, String role, Long expireMs){
@@ -42,4 +98,14 @@ public class JWTUtil {
                 .compact();
     }
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            //SHA-256은 모든 JVM이 지원해야 하는 알고리즘
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
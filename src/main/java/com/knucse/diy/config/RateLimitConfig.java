@@ -0,0 +1,53 @@
+package com.knucse.diy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.diy.common.ratelimit.RateLimitFilter;
+import com.knucse.diy.common.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private final RateLimitFilter rateLimitFilter;
+
+    public RateLimitConfig(
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${rate-limit.ip.refill-per-minute:60}") int ipRefillPerMinute,
+            @Value("${rate-limit.student.capacity:5}") int studentCapacity,
+            @Value("${rate-limit.student.refill-per-minute:10}") int studentRefillPerMinute,
+            @Value("${rate-limit.events.capacity:20}") int eventsCapacity,
+            @Value("${rate-limit.events.refill-per-minute:30}") int eventsRefillPerMinute,
+            @Value("${rate-limit.max-body-bytes:8192}") int maxBodyBytes
+    ) {
+        this.rateLimitFilter = new RateLimitFilter(
+                new RateLimiter(ipCapacity, ipRefillPerMinute),
+                new RateLimiter(studentCapacity, studentRefillPerMinute),
+                new RateLimiter(eventsCapacity, eventsRefillPerMinute),
+                objectMapper,
+                maxBodyBytes
+        );
+    }
+
+    /**
+     * Spring Security 필터 체인(springSecurityFilterChain)보다 먼저 실행되도록 등록합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        rateLimitFilter.evictIdleBuckets();
+    }
+}
@@ -2,6 +2,7 @@ package com.knucse.diy.config;
 
 import com.knucse.diy.authentication.filter.JWTFilter;
 import com.knucse.diy.authentication.filter.LoginFilter;
+import com.knucse.diy.authentication.principal.AdminPrincipalRegistry;
 import com.knucse.diy.common.util.jwt.JWTUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +35,7 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
+    private final AdminPrincipalRegistry adminPrincipalRegistry;
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
@@ -73,7 +75,7 @@ public class SecurityConfig {
                 );
 
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, adminPrincipalRegistry), LoginFilter.class);
 
         http
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration),jwtUtil), UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,26 @@
+package com.knucse.diy.domain.event.key;
+
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 열쇠의 대여, 반납, 미반납 처리 등으로 상태가 바뀌었을 때 발행되는 이벤트입니다.
+ * 트랜잭션 커밋 이후 RoomKeyScheduler가 이 이벤트를 받아 반납 기한을 등록하거나 취소합니다.
+ * @param dueAt 대여(USING)일 때 예약 종료 시각, 그 외에는 null
+ */
+public record RoomKeyChangedEvent(
+        Long keyId,
+        Long roomId,
+        Long holderId,
+        RoomKeyStatus status,
+        LocalDateTime dueAt
+) {
+    public static RoomKeyChangedEvent rented(Long keyId, Long roomId, Long holderId, LocalDateTime dueAt) {
+        return new RoomKeyChangedEvent(keyId, roomId, holderId, RoomKeyStatus.USING, dueAt);
+    }
+
+    public static RoomKeyChangedEvent of(Long keyId, Long roomId, Long holderId, RoomKeyStatus status) {
+        return new RoomKeyChangedEvent(keyId, roomId, holderId, status, null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.knucse.diy.domain.event.reservation;
+
+import com.knucse.diy.api.reservation.dto.ReservationReadDto;
+import com.knucse.diy.domain.model.reservation.Reservation;
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * reservation이 생성, 수정, 삭제되었을 때 발행되는 이벤트입니다.
+ * 트랜잭션 커밋 이후 인메모리 인덱스 등이 이 이벤트를 받아 해당 공간(roomId)의 상태만 갱신합니다.
+ */
+public record ReservationChangedEvent(
+        Long reservationId,
+        Long roomId,
+        LocalDate reservationDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        ReservationStatus status,
+        boolean deleted
+) {
+    public static ReservationChangedEvent fromEntity(Reservation reservation) {
+        return new ReservationChangedEvent(
+                reservation.getId(),
+                reservation.getRoomId(),
+                reservation.getReservationDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getStatus(),
+                false
+        );
+    }
+
+    public static ReservationChangedEvent fromReadDto(ReservationReadDto reservation) {
+        return new ReservationChangedEvent(
+                reservation.id(),
+                reservation.roomId(),
+                reservation.reservationDate(),
+                reservation.startTime(),
+                reservation.endTime(),
+                reservation.status(),
+                false
+        );
+    }
+
+    public static ReservationChangedEvent deletedFrom(Reservation reservation) {
+        return new ReservationChangedEvent(
+                reservation.getId(),
+                reservation.getRoomId(),
+                reservation.getReservationDate(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getStatus(),
+                true
+        );
+    }
+
+    /**
+     * 이벤트 이후 해당 reservation이 시간대를 점유하고 있는지 여부
+     */
+    public boolean occupiesSlot() {
+        return !deleted && status != ReservationStatus.CANCELLED;
+    }
+}
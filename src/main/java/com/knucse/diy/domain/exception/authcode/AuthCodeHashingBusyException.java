@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.authcode;
+
+import com.knucse.diy.common.exception.support.business.ServiceUnavailableException;
+
+public class AuthCodeHashingBusyException extends ServiceUnavailableException {
+
+    private static final String code = "AUTHENTICATION_CODE_HASHING_BUSY";
+
+    public AuthCodeHashingBusyException() {
+        super(code);
+    }
+}
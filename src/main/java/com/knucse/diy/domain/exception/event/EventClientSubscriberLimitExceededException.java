@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.event;
+
+import com.knucse.diy.common.exception.support.business.TooManyRequestsException;
+
+public class EventClientSubscriberLimitExceededException extends TooManyRequestsException {
+
+    private static final String code = "EVENT_CLIENT_SUBSCRIBER_LIMIT_EXCEEDED";
+
+    public EventClientSubscriberLimitExceededException() {
+        super(code);
+    }
+}
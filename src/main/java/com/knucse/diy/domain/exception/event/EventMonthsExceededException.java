@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.event;
+
+import com.knucse.diy.common.exception.support.business.BadRequestException;
+
+public class EventMonthsExceededException extends BadRequestException {
+
+    private static final String code = "EVENT_MONTHS_EXCEEDED";
+
+    public EventMonthsExceededException() {
+        super(code);
+    }
+}
@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.event;
+
+import com.knucse.diy.common.exception.support.business.ServiceUnavailableException;
+
+public class EventSubscriberLimitExceededException extends ServiceUnavailableException {
+
+    private static final String code = "EVENT_SUBSCRIBER_LIMIT_EXCEEDED";
+
+    public EventSubscriberLimitExceededException() {
+        super(code);
+    }
+}
@@ -0,0 +1,10 @@
+package com.knucse.diy.domain.exception.key;
+
+import com.knucse.diy.common.exception.support.business.BadRequestException;
+
+public class KeyHistoryRangeInvalidException extends BadRequestException {
+    private static final String code = "KEY_HISTORY_RANGE_INVALID";
+    public KeyHistoryRangeInvalidException() {
+        super(code);
+    }
+}
@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.reservation;
+
+import com.knucse.diy.common.exception.support.business.BadRequestException;
+
+public class AvailabilityRangeExceededException extends BadRequestException {
+
+    private static final String code = "AVAILABILITY_RANGE_EXCEEDED";
+
+    public AvailabilityRangeExceededException() {
+        super(code);
+    }
+}
@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.reservation;
+
+import com.knucse.diy.common.exception.support.business.BadRequestException;
+
+public class ReservationBlackListedException extends BadRequestException {
+
+    private static final String code = "RESERVATION_BLACK_LISTED";
+
+    public ReservationBlackListedException() {
+        super(code);
+    }
+}
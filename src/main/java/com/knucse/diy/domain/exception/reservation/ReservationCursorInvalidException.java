@@ -0,0 +1,12 @@
+package com.knucse.diy.domain.exception.reservation;
+
+import com.knucse.diy.common.exception.support.business.BadRequestException;
+
+public class ReservationCursorInvalidException extends BadRequestException {
+
+    private static final String code = "RESERVATION_CURSOR_INVALID";
+
+    public ReservationCursorInvalidException() {
+        super(code);
+    }
+}
@@ -0,0 +1,11 @@
+package com.knucse.diy.domain.exception.room;
+
+import com.knucse.diy.common.exception.support.business.DuplicatedException;
+
+public class RoomDuplicatedException extends DuplicatedException {
+
+    private static final String code = "ROOM_DUPLICATED";
+    public RoomDuplicatedException() {
+        super(code);
+    }
+}
@@ -0,0 +1,10 @@
+package com.knucse.diy.domain.exception.room;
+
+import com.knucse.diy.common.exception.support.business.NotFoundException;
+
+public class RoomNotFoundException extends NotFoundException {
+    private static final String code = "ROOM_NOT_FOUND";
+    public RoomNotFoundException() {
+        super(code);
+    }
+}
@@ -1,6 +1,7 @@
 package com.knucse.diy.domain.model.key;
 
 import com.knucse.diy.domain.model.base.BaseTimeEntity;
+import com.knucse.diy.domain.model.room.Room;
 import com.knucse.diy.domain.model.student.Student;
 import jakarta.persistence.*;
 import lombok.*;
@@ -17,8 +18,12 @@ public class RoomKey extends BaseTimeEntity {
     @Column(name = "room_key_id")
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "student_id") // 현재 소지자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false) // 열쇠로 여는 공간
+    private Room room;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id") // 현재 소지자 (반납 후에는 마지막 사용자)
     private Student holder;
 
     @Enumerated(EnumType.STRING)
@@ -26,11 +31,19 @@ public class RoomKey extends BaseTimeEntity {
     private RoomKeyStatus status;
 
     @Builder
-    public RoomKey(Student holder, RoomKeyStatus status) {
+    public RoomKey(Room room, Student holder, RoomKeyStatus status) {
+        this.room = room;
         this.holder = holder;
         this.status = status;
     }
 
+    /**
+     * 열쇠가 속한 공간의 id. room은 지연 로딩 프록시일 수 있지만 id는 초기화 없이 읽을 수 있습니다.
+     */
+    public Long getRoomId() {
+        return room.getId();
+    }
+
     public void updateRoomKey(Student holder, RoomKeyStatus status) {
         this.holder = holder;
         this.status = status;
@@ -10,13 +10,22 @@ import java.time.LocalDateTime;
 @Entity
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "room_key_history")
+@Table(name = "room_key_history",
+        indexes = {
+                @Index(name = "idx_room_key_history_datetime", columnList = "datetime"),
+                @Index(name = "idx_room_key_history_student_datetime", columnList = "student_number, datetime"),
+                @Index(name = "idx_room_key_history_status_datetime", columnList = "room_key_status, datetime"),
+                @Index(name = "idx_room_key_history_room_datetime", columnList = "room_id, datetime")
+        })
 public class RoomKeyHistory extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "history_id")
     private Long id;
 
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
     @Column(name = "student_name")
     private String studentName;
 
@@ -31,7 +40,8 @@ public class RoomKeyHistory extends BaseTimeEntity {
     private RoomKeyStatus status;
 
     @Builder
-    public RoomKeyHistory(Student student, LocalDateTime date, RoomKeyStatus status) {
+    public RoomKeyHistory(Long roomId, Student student, LocalDateTime date, RoomKeyStatus status) {
+        this.roomId = roomId;
         this.studentName = student.getStudentName();
         this.studentNumber = student.getStudentNumber();
         this.date = date;
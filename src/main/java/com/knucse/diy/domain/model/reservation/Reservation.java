@@ -2,6 +2,7 @@ package com.knucse.diy.domain.model.reservation;
 
 import com.knucse.diy.api.reservation.dto.ReservationUpdateDto;
 import com.knucse.diy.domain.model.base.BaseTimeEntity;
+import com.knucse.diy.domain.model.room.Room;
 import com.knucse.diy.domain.model.student.Student;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,7 +13,17 @@ import java.time.LocalTime;
 @Entity
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "reservation")
+@Table(name = "reservation",
+        indexes = {
+                @Index(name = "idx_reservation_room_date_status_time",
+                        columnList = "room_id, reservation_date, status, start_time, end_time"),
+                @Index(name = "idx_reservation_student_date_start",
+                        columnList = "student_id, reservation_date, start_time"),
+                @Index(name = "idx_reservation_status",
+                        columnList = "status, reservation_date, start_time"),
+                @Index(name = "idx_reservation_room_date_start",
+                        columnList = "room_id, reservation_date, start_time")
+        })
 public class Reservation extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +34,10 @@ public class Reservation extends BaseTimeEntity {
     @JoinColumn(name = "student_id", nullable = false)
     private Student student; // 예약한 학생 정보
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room; // 예약한 공간
+
     @Column(name = "auth_code")
     private String authCode;
 
@@ -52,8 +67,9 @@ public class Reservation extends BaseTimeEntity {
     private ReservationStatus status; // 예약 상태 (대기, 승인, 취소)
 
     @Builder
-    public Reservation(Student student, LocalDate reservationDate, LocalTime startTime, LocalTime endTime,String reason,String authCode, ReservationStatus status, String cancelledReason) {
+    public Reservation(Student student, Room room, LocalDate reservationDate, LocalTime startTime, LocalTime endTime,String reason,String authCode, ReservationStatus status, String cancelledReason) {
         this.student = student;
+        this.room = room;
         this.reservationDate = reservationDate;
         this.startTime = startTime;
         this.endTime = endTime;
@@ -63,6 +79,13 @@ public class Reservation extends BaseTimeEntity {
         this.cancelledReason = cancelledReason;
     }
 
+    /**
+     * 예약한 공간의 id. room은 지연 로딩 프록시일 수 있지만 id는 초기화 없이 읽을 수 있습니다.
+     */
+    public Long getRoomId() {
+        return room.getId();
+    }
+
     public void updateStatus(ReservationStatus status) {
         this.status = status;
     }
@@ -13,7 +13,8 @@ import java.time.LocalTime;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "reservation_black_list")
+@Table(name = "reservation_black_list",
+        indexes = @Index(name = "idx_reservation_black_list_created_at", columnList = "created_at"))
 public class ReservationBlackList extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,24 @@
+package com.knucse.diy.domain.model.room;
+
+import com.knucse.diy.domain.model.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "room")
+public class Room extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "room_id")
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 50, unique = true)
+    private String name; // 공간 이름
+
+    @Builder
+    public Room(String name) {
+        this.name = name;
+    }
+}
@@ -1,7 +1,9 @@
 package com.knucse.diy.domain.model.student;
 
+import com.knucse.diy.domain.service.student.StudentDirectoryListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -18,6 +20,7 @@ import lombok.ToString;
 @Getter @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "student")
+@EntityListeners(StudentDirectoryListener.class)
 public class Student {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "student_id")
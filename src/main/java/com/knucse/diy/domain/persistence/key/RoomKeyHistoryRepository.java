@@ -1,20 +1,70 @@
 package com.knucse.diy.domain.persistence.key;
 
+import com.knucse.diy.api.key.dto.KeyHistoryReadDto;
 import com.knucse.diy.domain.model.key.RoomKeyHistory;
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RoomKeyHistoryRepository extends JpaRepository<RoomKeyHistory, Long> {
+
+    /**
+     * 기간 조회용 projection. [from, to) 구간을 최신순으로 가져오며, roomId, studentNumber, status는 null이면 거르지 않습니다.
+     */
+    String READ_DTO_SELECT = """
+            SELECT new com.knucse.diy.api.key.dto.KeyHistoryReadDto(
+                h.id, h.roomId, h.studentName, h.studentNumber, h.date, h.status)
+            FROM RoomKeyHistory h
+            WHERE h.date >= :from
+              AND (:roomId IS NULL OR h.roomId = :roomId)
+              AND (:studentNumber IS NULL OR h.studentNumber = :studentNumber)
+              AND (:status IS NULL OR h.status = :status)
+            """;
+
+    String KEYSET_ORDER = "ORDER BY h.date DESC, h.id DESC";
+
     // 특정 학생의 열쇠 이력 조회
     List<RoomKeyHistory> findByStudentName(String studentName);
 
-    // 특정 열쇠 상태로 변경된 기록 조회
-    List<RoomKeyHistory> findByStatus(String status);
+    @Query(READ_DTO_SELECT + "AND h.date < :to " + KEYSET_ORDER)
+    List<KeyHistoryReadDto> findPage(@Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("roomId") Long roomId,
+                                     @Param("studentNumber") String studentNumber,
+                                     @Param("status") RoomKeyStatus status,
+                                     Pageable pageable);
+
+    /**
+     * cursor 이전(더 오래된) 기록을 조회합니다. h.date <= :cursorDate 로 인덱스 range scan이 cursor 위치에서 시작합니다.
+     */
+    @Query(READ_DTO_SELECT + """
+            AND h.date <= :cursorDate
+            AND (h.date < :cursorDate OR h.id < :cursorId)
+            """ + KEYSET_ORDER)
+    List<KeyHistoryReadDto> findPageBefore(@Param("from") LocalDateTime from,
+                                           @Param("roomId") Long roomId,
+                                           @Param("studentNumber") String studentNumber,
+                                           @Param("status") RoomKeyStatus status,
+                                           @Param("cursorDate") LocalDateTime cursorDate,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
 
-    // 특정 날짜 이후의 기록 조회
-    List<RoomKeyHistory> findByDateAfter(LocalDateTime date);
+    // export용 스트리밍 조회 (fetch size Integer.MIN_VALUE: MySQL 행 단위 스트리밍). 트랜잭션 안에서 사용 후 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h FROM RoomKeyHistory h ORDER BY h.date ASC, h.id ASC")
+    Stream<RoomKeyHistory> streamAll();
 }
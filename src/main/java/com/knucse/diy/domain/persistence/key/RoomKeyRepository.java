@@ -1,10 +1,14 @@
 package com.knucse.diy.domain.persistence.key;
 
 import com.knucse.diy.domain.model.key.RoomKey;
+import com.knucse.diy.domain.model.student.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +20,66 @@ public interface RoomKeyRepository extends JpaRepository<RoomKey,Long> {
     @Override
     List<RoomKey> findAll();
 
-    // id가 가장 작은 RoomKey 가져오기
-    @Query("SELECT rk FROM RoomKey rk ORDER BY rk.id ASC LIMIT 1")
-    Optional<RoomKey> findFirstKey();
+    // 공간의 열쇠 중 id가 가장 작은 RoomKey 가져오기
+    @Query("SELECT rk FROM RoomKey rk WHERE rk.room.id = :roomId ORDER BY rk.id ASC LIMIT 1")
+    Optional<RoomKey> findFirstKeyByRoom(@Param("roomId") Long roomId);
+
+    /**
+     * 열쇠가 보관 중(KEEPING)일 때만 holder에게 대여(USING)합니다.
+     * 조건과 변경을 한 UPDATE로 처리하므로, 동시에 대여를 시도해도 한 요청만 1을 받습니다.
+     * @return 변경된 행 수 (0이면 이미 다른 사람이 대여했거나 보관 중이 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RoomKey rk
+            SET rk.status = com.knucse.diy.domain.model.key.RoomKeyStatus.USING,
+                rk.holder = :holder,
+                rk.updatedAt = :now
+            WHERE rk.id = :id
+              AND rk.status = com.knucse.diy.domain.model.key.RoomKeyStatus.KEEPING
+            """)
+    int rentIfKeeping(@Param("id") Long id,
+                      @Param("holder") Student holder,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 열쇠가 holder에게 대여 중(USING)이거나 holder가 미반납(NOT_RETURNED)한 상태일 때만 보관(KEEPING) 상태로 되돌립니다.
+     * holder는 마지막 사용자로 남겨둡니다.
+     * @return 변경된 행 수 (0이면 대여 중/미반납 상태가 아니거나 holder가 다름)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RoomKey rk
+            SET rk.status = com.knucse.diy.domain.model.key.RoomKeyStatus.KEEPING,
+                rk.updatedAt = :now
+            WHERE rk.id = :id
+              AND rk.status IN (com.knucse.diy.domain.model.key.RoomKeyStatus.USING,
+                                com.knucse.diy.domain.model.key.RoomKeyStatus.NOT_RETURNED)
+              AND rk.holder = :holder
+            """)
+    int returnIfHeldBy(@Param("id") Long id,
+                       @Param("holder") Student holder,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 열쇠가 holder에게 대여 중(USING)일 때만 미반납(NOT_RETURNED) 상태로 바꿉니다.
+     * 반납 기한 처리와 반납이 동시에 일어나도 둘 중 하나만 반영됩니다. holder는 미반납자로 남겨둡니다.
+     * @return 변경된 행 수 (0이면 이미 반납되었거나 다른 사람이 대여 중)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE RoomKey rk
+            SET rk.status = com.knucse.diy.domain.model.key.RoomKeyStatus.NOT_RETURNED,
+                rk.updatedAt = :now
+            WHERE rk.id = :id
+              AND rk.status = com.knucse.diy.domain.model.key.RoomKeyStatus.USING
+              AND rk.holder.id = :holderId
+            """)
+    int markNotReturnedIfHeldBy(@Param("id") Long id,
+                                @Param("holderId") Long holderId,
+                                @Param("now") LocalDateTime now);
+
+    // 대여 중인 열쇠와 holder
+    @Query("SELECT rk FROM RoomKey rk JOIN FETCH rk.holder WHERE rk.status = com.knucse.diy.domain.model.key.RoomKeyStatus.USING")
+    List<RoomKey> findAllRentedWithHolder();
 }
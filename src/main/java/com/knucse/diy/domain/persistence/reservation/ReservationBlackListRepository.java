@@ -1,7 +1,9 @@
 package com.knucse.diy.domain.persistence.reservation;
 
 import com.knucse.diy.domain.model.reservation.ReservationBlackList;
+import com.knucse.diy.domain.model.student.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,4 +14,10 @@ public interface ReservationBlackListRepository extends JpaRepository<Reservatio
      * 특정 날짜 이전에 블랙리스트에 추가된 항목 조회
      */
     List<ReservationBlackList> findAllByCreatedAtBefore(LocalDateTime date);
+
+    boolean existsByStudent(Student student);
+
+    // ReservationBlackListSet 적재용
+    @Query("SELECT b.student.id FROM ReservationBlackList b")
+    List<Long> findAllStudentIds();
 }
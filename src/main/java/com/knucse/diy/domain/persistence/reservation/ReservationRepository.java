@@ -1,10 +1,17 @@
 package com.knucse.diy.domain.persistence.reservation;
 
+import com.knucse.diy.api.reservation.dto.ReservationReadDto;
 import com.knucse.diy.domain.model.reservation.Reservation;
 import com.knucse.diy.domain.model.reservation.ReservationStatus;
 import com.knucse.diy.domain.model.student.Student;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
@@ -13,18 +20,99 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation,Long> {
+
+    /**
+     * 목록 조회용 projection. student를 join하여 ReservationReadDto에 필요한 컬럼만 한 번의 쿼리로 가져옵니다.
+     */
+    String READ_DTO_SELECT = """
+            SELECT new com.knucse.diy.api.reservation.dto.ReservationReadDto(
+                r.id, r.room.id, s.studentName, s.studentNumber, r.reservationDate,
+                r.startTime, r.endTime, r.reason, r.status, r.cancelledReason)
+            FROM Reservation r JOIN r.student s
+            """;
+
+    /**
+     * keyset pagination 조건. cursor 위치 다음부터 조회합니다.
+     * reservationDate >= 조건을 따로 두어 인덱스 range scan이 cursor 위치에서 바로 시작하도록 합니다.
+     */
+    String AFTER_CURSOR = """
+            AND r.reservationDate >= :cursorDate
+            AND (r.reservationDate > :cursorDate
+                 OR r.startTime > :cursorTime
+                 OR (r.startTime = :cursorTime AND r.id > :cursorId))
+            """;
+
+    String KEYSET_ORDER = "ORDER BY r.reservationDate ASC, r.startTime ASC, r.id ASC";
+
     @Override
     Optional<Reservation> findById(Long id);
 
     List<Reservation> findByReservationDate(LocalDate reservationDate);
 
-    Optional<Reservation> findByStudentAndReservationDate(Student student, LocalDate reservationDate);
+    @Query("SELECT r FROM Reservation r WHERE r.room.id = :roomId AND r.reservationDate = :date")
+    List<Reservation> findByRoomAndReservationDate(@Param("roomId") Long roomId, @Param("date") LocalDate date);
+
+    /**
+     * 공간의 날짜 범위에서 취소되지 않은 reservation의 id, 날짜, 시간대만 한 번의 쿼리로 가져옵니다.
+     * (room_id, reservation_date, status, start_time, end_time) 인덱스만으로 처리됩니다.
+     */
+    @Query("""
+            SELECT new com.knucse.diy.domain.persistence.reservation.ReservationSlotView(
+                r.id, r.reservationDate, r.startTime, r.endTime)
+            FROM Reservation r
+            WHERE r.room.id = :roomId
+              AND r.reservationDate BETWEEN :startDate AND :endDate
+              AND r.status IN (com.knucse.diy.domain.model.reservation.ReservationStatus.PENDING,
+                               com.knucse.diy.domain.model.reservation.ReservationStatus.APPROVED)
+            """)
+    List<ReservationSlotView> findSlotsWithinDateRange(@Param("roomId") Long roomId,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+
+    @Query("""
+            SELECT r FROM Reservation r
+            WHERE r.student = :student AND r.room.id = :roomId AND r.reservationDate = :date
+            """)
+    Optional<Reservation> findByStudentAndRoomAndReservationDate(@Param("student") Student student,
+                                                                 @Param("roomId") Long roomId,
+                                                                 @Param("date") LocalDate date);
 
-    List<Reservation> findByReservationDateBetween(LocalDate startDate, LocalDate endDate);
     List<Reservation> findByStudent(Student student);
-    List<Reservation> findByStatus(ReservationStatus status);
+
+    @Query(READ_DTO_SELECT + "WHERE r.status = :status " + KEYSET_ORDER)
+    List<ReservationReadDto> findPageByStatus(@Param("status") ReservationStatus status, Pageable pageable);
+
+    @Query(READ_DTO_SELECT + "WHERE r.status = :status " + AFTER_CURSOR + KEYSET_ORDER)
+    List<ReservationReadDto> findPageByStatusAfter(@Param("status") ReservationStatus status,
+                                                   @Param("cursorDate") LocalDate cursorDate,
+                                                   @Param("cursorTime") LocalTime cursorTime,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    /**
+     * export용 스트리밍 조회. MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 받아오므로
+     * 결과 전체를 메모리에 올리지 않습니다. 스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없어 student를 함께 가져옵니다.
+     * 반드시 트랜잭션 안에서 사용하고 try-with-resources로 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.student WHERE r.status = :status " + KEYSET_ORDER)
+    Stream<Reservation> streamByStatus(@Param("status") ReservationStatus status);
+
+    @Query(READ_DTO_SELECT + "WHERE r.student = :student " + KEYSET_ORDER)
+    List<ReservationReadDto> findPageByStudent(@Param("student") Student student, Pageable pageable);
+
+    @Query(READ_DTO_SELECT + "WHERE r.student = :student " + AFTER_CURSOR + KEYSET_ORDER)
+    List<ReservationReadDto> findPageByStudentAfter(@Param("student") Student student,
+                                                    @Param("cursorDate") LocalDate cursorDate,
+                                                    @Param("cursorTime") LocalTime cursorTime,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
 
     @Query("SELECT r FROM Reservation r " +
             "WHERE r.student = :student " +
@@ -37,19 +125,91 @@ public interface ReservationRepository extends JpaRepository<Reservation,Long> {
 
 
 
-    @Query("""
-            SELECT r 
-            FROM Reservation r 
-            WHERE (r.reservationDate > :currentDate) 
-               OR (r.reservationDate = :currentDate AND r.startTime >= :currentTime)
+    @Query(READ_DTO_SELECT + """
+            WHERE r.room.id = :roomId
+              AND ((r.reservationDate > :currentDate)
+               OR (r.reservationDate = :currentDate AND r.startTime >= :currentTime))
             ORDER BY r.reservationDate ASC, r.startTime ASC
             """)
-    List<Reservation> findClosestReservations(@Param("currentDate") LocalDate currentDate,
+    List<ReservationReadDto> findClosestReservations(@Param("roomId") Long roomId,
+                                              @Param("currentDate") LocalDate currentDate,
                                               @Param("currentTime") LocalTime currentTime,
                                               Pageable pageable);
 
-    @Query("SELECT r FROM Reservation r WHERE r.reservationDate BETWEEN :startDate AND :endDate")
-    List<Reservation> findReservationsWithinDateRange(
+    /**
+     * 해당 공간, 날짜의 reservation 인덱스 범위에 locking read(SELECT ... FOR UPDATE)를 겁니다.
+     * InnoDB next-key lock으로 트랜잭션이 끝날 때까지 다른 트랜잭션이 같은 공간, 같은 날짜에 insert하지 못하게 막습니다.
+     * (room_id, reservation_date, ...) 인덱스를 타므로 다른 공간의 예약은 막지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.id FROM Reservation r WHERE r.room.id = :roomId AND r.reservationDate = :date")
+    List<Long> lockByReservationDate(@Param("roomId") Long roomId, @Param("date") LocalDate date);
+
+    /**
+     * reservation 행에 locking read(SELECT ... FOR UPDATE)를 걸어 조회합니다.
+     * 트랜잭션이 끝날 때까지 다른 트랜잭션이 같은 reservation을 수정하거나 삭제하지 못하므로,
+     * 조회한 entity에 적용한 변경이 그 사이 커밋된 다른 변경을 덮어쓰지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 해당 공간, 날짜에 주어진 시간대와 겹치는, 취소되지 않은 reservation이 있는지 DB에서 확인합니다.
+     * 시간대는 [startTime, endTime) 구간으로 비교하므로 경계가 맞닿는 reservation(10:00~12:00, 12:00~13:00)은 겹치지 않습니다.
+     * (room_id, reservation_date, status, start_time, end_time) 인덱스만으로 처리됩니다.
+     * @param excludeId 검사에서 제외할 reservationId, 없으면 null
+     */
+    @Query("""
+            SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END
+            FROM Reservation r
+            WHERE r.room.id = :roomId
+              AND r.reservationDate = :date
+              AND r.status IN (com.knucse.diy.domain.model.reservation.ReservationStatus.PENDING,
+                               com.knucse.diy.domain.model.reservation.ReservationStatus.APPROVED)
+              AND r.startTime < :endTime
+              AND r.endTime > :startTime
+              AND (:excludeId IS NULL OR r.id <> :excludeId)
+            """)
+    boolean existsOverlapping(@Param("roomId") Long roomId,
+                              @Param("date") LocalDate date,
+                              @Param("startTime") LocalTime startTime,
+                              @Param("endTime") LocalTime endTime,
+                              @Param("excludeId") Long excludeId);
+
+    @Query(READ_DTO_SELECT + "WHERE r.id IN :ids ORDER BY r.reservationDate ASC, r.startTime ASC")
+    List<ReservationReadDto> findReadDtosByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * id 목록의 reservation status를 한 번의 UPDATE로 변경합니다.
+     * bulk update는 auditing을 거치지 않으므로 updatedAt을 직접 갱신합니다.
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :status, r.updatedAt = :now WHERE r.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids,
+                           @Param("status") ReservationStatus status,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * id 목록의 reservation을 한 번의 UPDATE로 거절(CANCELLED) 상태로 변경합니다.
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Reservation r
+            SET r.status = com.knucse.diy.domain.model.reservation.ReservationStatus.CANCELLED,
+                r.cancelledReason = :cancelledReason,
+                r.updatedAt = :now
+            WHERE r.id IN :ids
+            """)
+    int cancelByIdIn(@Param("ids") List<Long> ids,
+                     @Param("cancelledReason") String cancelledReason,
+                     @Param("now") LocalDateTime now);
+
+    @Query(READ_DTO_SELECT + "WHERE r.room.id = :roomId AND r.reservationDate BETWEEN :startDate AND :endDate")
+    List<ReservationReadDto> findReservationsWithinDateRange(
+            @Param("roomId") Long roomId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
@@ -0,0 +1,15 @@
+package com.knucse.diy.domain.persistence.reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 빈 시간 인덱스(ReservationIntervalIndex) 적재용 projection. reservation이 점유하는 날짜와 시간대만 담습니다.
+ */
+public record ReservationSlotView(
+        Long id,
+        LocalDate reservationDate,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,9 @@
+package com.knucse.diy.domain.persistence.room;
+
+import com.knucse.diy.domain.model.room.Room;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    boolean existsByName(String name);
+}
@@ -0,0 +1,203 @@
+package com.knucse.diy.domain.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * key별 마감 시각을 보관하다가 마감이 지나면 onExpire를 호출하는 hashed timer wheel입니다.
+ * wheelSize개의 bucket을 tickMillis마다 하나씩 돌며 해당 bucket의 마감만 검사하므로,
+ * 등록된 마감 수와 관계없이 tick당 작업량이 일정하고 마감이 없는 동안에는 아무것도 조회하지 않습니다.
+ * 한 바퀴(wheelSize * tickMillis)보다 먼 마감은 남은 바퀴 수(rounds)를 두고 같은 bucket에 넣습니다.
+ * bucket은 worker 스레드만 다루며, schedule/cancel은 명령 큐에 넣어 다음 tick에 반영됩니다.
+ * 같은 key로 다시 schedule하면 기존 마감을 대체합니다.
+ */
+@Slf4j
+public class HashedTimerWheel<K, V> {
+
+    private final long tickMillis;
+
+    private final int mask;
+
+    private final Queue<Timeout<K, V>>[] buckets;
+
+    //worker 스레드 전용. key별 현재 유효한 마감
+    private final Map<K, Timeout<K, V>> timeouts = new HashMap<>();
+
+    private final Queue<Command<K, V>> commands = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final BiConsumer<K, V> onExpire;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private long startMillis;
+
+    private long tick;
+
+    /**
+     * @param threadName worker 스레드 이름
+     * @param tickMillis bucket 하나가 담당하는 시간
+     * @param wheelSize bucket 수 (2의 거듭제곱으로 올림)
+     * @param onExpire 마감이 지난 key와 값을 받는 callback. worker 스레드에서 호출됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String threadName, long tickMillis, int wheelSize, BiConsumer<K, V> onExpire) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        size = Math.max(size, 1);
+
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.onExpire = onExpire;
+
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        startMillis = System.currentTimeMillis();
+        worker.start();
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(tickMillis * 10);
+    }
+
+    /**
+     * key의 마감을 등록합니다. 이미 지난 시각이라면 다음 tick에 만료됩니다.
+     * @param key 마감을 구분하는 key
+     * @param value 만료 시 함께 전달할 값
+     * @param deadlineMillis epoch milli
+     */
+    public void schedule(K key, V value, long deadlineMillis) {
+        commands.add(new Command<>(key, value, deadlineMillis, false));
+    }
+
+    /**
+     * key의 마감을 취소합니다. 등록되지 않은 key라면 아무 일도 하지 않습니다.
+     */
+    public void cancel(K key) {
+        commands.add(new Command<>(key, null, 0, true));
+    }
+
+    /**
+     * 현재 등록된 마감 수 (마지막 tick 기준)
+     */
+    public int size() {
+        return pendingCount.get();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            applyCommands();
+            expire(buckets[(int) (tick & mask)]);
+            pendingCount.set(timeouts.size());
+            tick++;
+        }
+    }
+
+    /**
+     * tick이 끝나는 시각까지 기다립니다. 처리가 밀렸다면 기다리지 않고 밀린 tick을 바로 처리합니다.
+     */
+    private boolean waitForNextTick() {
+        long tickEndMillis = startMillis + (tick + 1) * tickMillis;
+        while (true) {
+            long sleepMillis = tickEndMillis - System.currentTimeMillis();
+            if (sleepMillis <= 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void applyCommands() {
+        Command<K, V> command;
+        while ((command = commands.poll()) != null) {
+            Timeout<K, V> previous = timeouts.remove(command.key());
+            if (previous != null) {
+                previous.cancelled = true;
+            }
+            if (command.cancel()) {
+                continue;
+            }
+
+            //지금 처리 중인 tick보다 앞선 마감은 이번 tick에 만료
+            long deadlineTick = Math.max(ceilDiv(command.deadlineMillis() - startMillis, tickMillis) - 1, tick);
+            Timeout<K, V> timeout = new Timeout<>(command.key(), command.value(), (deadlineTick - tick) / buckets.length);
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+            timeouts.put(command.key(), timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout<K, V>> bucket) {
+        Iterator<Timeout<K, V>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<K, V> timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+                continue;
+            }
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                continue;
+            }
+
+            iterator.remove();
+            timeouts.remove(timeout.key, timeout);
+            try {
+                onExpire.accept(timeout.key, timeout.value);
+            } catch (RuntimeException e) {
+                //callback 실패로 worker가 멈추지 않도록 함
+                log.error("Timer wheel callback failed for {}", timeout.key, e);
+            }
+        }
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private record Command<K, V>(K key, V value, long deadlineMillis, boolean cancel) {
+    }
+
+    private static final class Timeout<K, V> {
+        private final K key;
+        private final V value;
+        private long rounds;
+        private boolean cancelled;
+
+        private Timeout(K key, V value, long rounds) {
+            this.key = key;
+            this.value = value;
+            this.rounds = rounds;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.knucse.diy.domain.scheduler;
+
+import com.knucse.diy.domain.service.reservation.ReservationBlackListSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 등록된 지 ttl-days가 지난 예약 블랙리스트 항목을 주기적으로 삭제합니다.
+ * 엔티티를 읽어 하나씩 지우지 않고, chunk-size 행씩 DELETE 한 번으로 지우며 chunk마다 트랜잭션을 나눠
+ * 한 번에 오래 lock을 잡거나 큰 undo log를 만들지 않습니다.
+ * 지운 학생 id는 커밋 후 ReservationBlackListSet에서도 제거합니다.
+ */
+@Slf4j
+@Component
+public class ReservationBlackListSweeper {
+
+    //같은 chunk를 DELETE가 지우기 전에 lock을 잡아, 동시에 도는 다른 서버 인스턴스와 같은 행을 나눠 갖지 않도록 함
+    private static final String SELECT_EXPIRED_SQL = """
+            SELECT student_id FROM reservation_black_list
+            WHERE created_at < ?
+            ORDER BY reservation_id
+            LIMIT ?
+            FOR UPDATE
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM reservation_black_list
+            WHERE created_at < ?
+            ORDER BY reservation_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate chunkTransactionTemplate;
+
+    private final ReservationBlackListSet reservationBlackListSet;
+
+    private final Duration ttl;
+
+    private final int chunkSize;
+
+    public ReservationBlackListSweeper(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ReservationBlackListSet reservationBlackListSet,
+            @Value("${reservation.black-list.ttl-days:30}") long ttlDays,
+            @Value("${reservation.black-list.sweep-chunk-size:500}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.reservationBlackListSet = reservationBlackListSet;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.black-list.sweep-interval-ms:3600000}")
+    public void sweep() {
+        SweepResult result = sweepBefore(LocalDateTime.now().minus(ttl));
+        if (result.removed() > 0) {
+            log.info("Reservation black list sweep removed {} rows in {} chunks, {} ms",
+                    result.removed(), result.chunks(), result.elapsedMillis());
+        } else {
+            log.debug("Reservation black list sweep removed no rows, {} ms", result.elapsedMillis());
+        }
+    }
+
+    /**
+     * threshold 이전에 등록된 블랙리스트 항목을 chunk 단위로 모두 삭제합니다.
+     * @param threshold 이 시각 이전에 등록된 항목 삭제
+     * @return 삭제한 행 수, chunk 수, 걸린 시간
+     */
+    public SweepResult sweepBefore(LocalDateTime threshold) {
+        Timestamp before = Timestamp.valueOf(threshold);
+        long startNanos = System.nanoTime();
+        int removed = 0;
+        int chunks = 0;
+
+        while (true) {
+            Integer deleted = chunkTransactionTemplate.execute(status -> {
+                List<Long> studentIds = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL, Long.class, before, chunkSize);
+                if (studentIds.isEmpty()) {
+                    return 0;
+                }
+                int count = jdbcTemplate.update(DELETE_EXPIRED_SQL, before, chunkSize);
+                reservationBlackListSet.removeAfterCommit(studentIds);
+                return count;
+            });
+
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            removed += deleted;
+            chunks++;
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+
+        return new SweepResult(removed, chunks, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    public record SweepResult(int removed, int chunks, long elapsedMillis) {
+    }
+}
@@ -1,60 +1,106 @@
-//package com.knucse.diy.domain.scheduler;
-//
-//import com.knucse.diy.domain.model.key.RoomKey;
-//import com.knucse.diy.domain.model.key.RoomKeyStatus;
-//import com.knucse.diy.domain.model.reservation.Reservation;
-//import com.knucse.diy.domain.model.reservation.ReservationBlackList;
-//import com.knucse.diy.domain.model.student.Student;
-//import com.knucse.diy.domain.persistence.reservation.ReservationBlackListRepository;
-//import com.knucse.diy.domain.service.key.RoomKeyService;
-//import com.knucse.diy.domain.service.reservation.ReservationService;
-//import jakarta.transaction.Transactional;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.scheduling.annotation.Scheduled;
-//import org.springframework.stereotype.Component;
-//
-//import java.time.LocalDate;
-//import java.time.LocalDateTime;
-//
-//@Component
-//@RequiredArgsConstructor
-//public class RoomKeyScheduler {
-//
-//    private final RoomKeyService roomKeyService;
-//    private final ReservationService reservationService;
-//    private final ReservationBlackListRepository reservationBlackListRepository;
-//
-//    /**
-//     * 매 5분마다 Key 상태를 검사하여 미반납 상태 처리 및 Blacklist 등록
-//     */
-//    @Scheduled(cron = "0 */5 * * * *") // 5분마다 실행
-//    @Transactional
-//    public void checkKeyReturnStatus() {
-//        RoomKey roomKey = roomKeyService.findFirstKey();
-//
-//        if(roomKey.getStatus() == RoomKeyStatus.USING){
-//            Reservation reservation = reservationService.findReservationsByStudentAndDate(roomKey.getHolder(), LocalDate.now());
-//
-//            LocalDateTime reservationEndTime = LocalDateTime.of(LocalDate.now(), reservation.getEndTime());
-//            if (reservationEndTime.plusMinutes(30).isBefore(LocalDateTime.now())) {
-//                Student notReturendStudent = roomKey.getHolder();
-//                addToBlackList(notReturendStudent);
-//
-//                roomKeyService.updateRoomKey(null, RoomKeyStatus.NOT_RETURNED);
-//
-//                // 로그 출력 또는 추가 작업
-//                System.out.println("Key ID " + roomKey.getId() + " 미반납 상태로 변경, 학생 ID: " + notReturendStudent.getId() + " Blacklist 등록");
-//            }
-//        }
-//    }
-//
-//    /**
-//     * Blacklist에 학생 추가
-//     */
-//    private void addToBlackList(Student student) {
-//        ReservationBlackList blackListedStudent = ReservationBlackList.builder()
-//                .student(student).build();
-//
-//        reservationBlackListRepository.save(blackListedStudent);
-//    }
-//}
+package com.knucse.diy.domain.scheduler;
+
+import com.knucse.diy.domain.event.key.RoomKeyChangedEvent;
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import com.knucse.diy.domain.service.key.RoomKeyService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 대여된 열쇠의 반납 기한(예약 종료 시각 + 유예 시간)을 HashedTimerWheel에 등록해 두었다가,
+ * 기한이 지나면 열쇠를 미반납(NOT_RETURNED) 처리하고 학생을 예약 블랙리스트에 추가합니다.
+ * 대여가 커밋되면 기한을 등록하고 반납(혹은 관리자 변경)이 커밋되면 취소하므로, 기한이 오기 전까지는 DB를 조회하지 않습니다.
+ * 기한은 메모리에만 있으므로 서버 시작 시 대여 중인 열쇠로부터 다시 등록합니다.
+ */
+@Slf4j
+@Component
+public class RoomKeyScheduler {
+
+    private final RoomKeyService roomKeyService;
+
+    private final Duration grace;
+
+    private final Duration retryDelay;
+
+    //keyId -> 기한 등록 시의 holderId
+    private final HashedTimerWheel<Long, Long> wheel;
+
+    public RoomKeyScheduler(
+            RoomKeyService roomKeyService,
+            @Value("${roomkey.overdue.grace-minutes:30}") long graceMinutes,
+            @Value("${roomkey.overdue.retry-delay-ms:60000}") long retryDelayMillis,
+            @Value("${roomkey.overdue.tick-ms:1000}") long tickMillis,
+            @Value("${roomkey.overdue.wheel-size:512}") int wheelSize
+    ) {
+        this.roomKeyService = roomKeyService;
+        this.grace = Duration.ofMinutes(graceMinutes);
+        this.retryDelay = Duration.ofMillis(retryDelayMillis);
+        this.wheel = new HashedTimerWheel<>("room-key-overdue-wheel", tickMillis, wheelSize, this::onOverdue);
+    }
+
+    /**
+     * DB의 대여 중인 열쇠로 반납 기한을 다시 등록하고 wheel을 시작합니다.
+     * 서버가 내려가 있는 동안 기한이 지난 열쇠는 첫 tick에 바로 처리됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<RoomKeyChangedEvent> rented = roomKeyService.findRentedKeyDeadlines();
+        rented.forEach(this::register);
+        wheel.start();
+        log.info("Room key overdue scheduler started with {} rented keys", rented.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomKeyChanged(RoomKeyChangedEvent event) {
+        if (event.status() == RoomKeyStatus.USING && event.dueAt() != null) {
+            register(event);
+        } else {
+            wheel.cancel(event.keyId());
+        }
+    }
+
+    /**
+     * 현재 등록된 반납 기한 수
+     */
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    private void register(RoomKeyChangedEvent event) {
+        wheel.schedule(event.keyId(), event.holderId(), toEpochMilli(event.dueAt().plus(grace)));
+    }
+
+    /**
+     * wheel 스레드에서 호출됩니다. 처리에 실패하면 retryDelay 뒤에 다시 시도합니다.
+     */
+    private void onOverdue(Long keyId, Long holderId) {
+        try {
+            if (roomKeyService.markNotReturned(keyId, holderId)) {
+                log.warn("Room key {} was not returned by student {}, added to black list", keyId, holderId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to mark room key {} as not returned, retrying in {}", keyId, retryDelay, e);
+            wheel.schedule(keyId, holderId, System.currentTimeMillis() + retryDelay.toMillis());
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        wheel.stop();
+    }
+}
@@ -0,0 +1,406 @@
+package com.knucse.diy.domain.service.event;
+
+import com.knucse.diy.api.event.dto.ReservationEventDto;
+import com.knucse.diy.api.event.dto.RoomKeyEventDto;
+import com.knucse.diy.domain.event.key.RoomKeyChangedEvent;
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
+import com.knucse.diy.domain.exception.event.EventClientSubscriberLimitExceededException;
+import com.knucse.diy.domain.exception.event.EventMonthsExceededException;
+import com.knucse.diy.domain.exception.event.EventSubscriberLimitExceededException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * reservation, 열쇠 변경 이벤트를 SSE 구독자에게 전달합니다.
+ * reservation 이벤트는 공간(roomId)과 월 단위 topic으로, 열쇠 이벤트는 공간 단위 topic으로 나누어
+ * 구독한 topic의 이벤트만 보냅니다. 변경이 커밋된 뒤에만 전달하므로 DB 조회는 하지 않습니다.
+ * 구독자마다 고정 크기 버퍼를 두고 소수의 dispatcher 스레드가 버퍼를 비우며 전송하므로,
+ * 느린 클라이언트가 커밋한 스레드를 붙잡지 않습니다.
+ * SseEmitter.send는 클라이언트가 읽지 않으면 소켓 쓰기에서 막히므로, send-timeout-ms보다 오래 걸리는 전송은
+ * 주기적인 검사에서 찾아 구독을 끊고, 막힌 스레드 수만큼 dispatcher 스레드를 늘려 다른 구독자의 전송이 밀리지 않게 합니다.
+ * 전체 구독자 수와 별도로 클라이언트(IP)별 동시 구독 수도 제한합니다.
+ * 버퍼가 가득 차면 쌓인 이벤트를 버리고 overflow 이벤트를 한 번 보내, 클라이언트가 다시 조회하도록 합니다.
+ */
+@Slf4j
+@Component
+public class ChangeEventBroadcaster {
+
+    public static final String SUBSCRIBED_EVENT = "subscribed";
+    public static final String RESERVATION_EVENT = "reservation";
+    public static final String ROOM_KEY_EVENT = "room-key";
+    public static final String OVERFLOW_EVENT = "overflow";
+
+    private final ConcurrentMap<MonthTopic, Set<Subscriber>> reservationTopics = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Long, Set<Subscriber>> roomKeyTopics = new ConcurrentHashMap<>();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    //클라이언트 key -> 동시 구독 수
+    private final ConcurrentMap<String, Integer> clientSubscriberCounts = new ConcurrentHashMap<>();
+
+    //지금 emitter.send 중인 구독자
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor dispatcher;
+
+    private final int bufferCapacity;
+
+    private final int maxSubscribers;
+
+    private final int maxSubscribersPerClient;
+
+    private final int maxMonths;
+
+    private final long timeoutMillis;
+
+    private final long sendTimeoutNanos;
+
+    private final int dispatchThreads;
+
+    private final int maxDispatchThreads;
+
+    public ChangeEventBroadcaster(
+            @Value("${events.buffer-capacity:64}") int bufferCapacity,
+            @Value("${events.max-subscribers:5000}") int maxSubscribers,
+            @Value("${events.max-subscribers-per-client:10}") int maxSubscribersPerClient,
+            @Value("${events.max-months:3}") int maxMonths,
+            @Value("${events.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${events.send-timeout-ms:10000}") long sendTimeoutMillis,
+            @Value("${events.dispatch-threads:2}") int dispatchThreads,
+            @Value("${events.max-dispatch-threads:16}") int maxDispatchThreads
+    ) {
+        this.bufferCapacity = bufferCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+        this.maxMonths = maxMonths;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.dispatchThreads = dispatchThreads;
+        this.maxDispatchThreads = Math.max(dispatchThreads, maxDispatchThreads);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        //구독자마다 대기 중인 전송 작업은 최대 하나이므로 대기열은 구독자 수를 넘지 않음
+        //대기열에 제한이 없으므로 스레드 수는 core 크기로 정해지며, closeStalledSubscribers에서 조정
+        this.dispatcher = new ThreadPoolExecutor(
+                dispatchThreads, this.maxDispatchThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "change-event-dispatcher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * 공간의 열쇠 이벤트와 주어진 월들의 reservation 이벤트를 구독합니다.
+     * @param clientKey 동시 구독 수를 제한할 클라이언트 key (IP)
+     * @param roomId 검증된 공간 id
+     * @param months reservation 이벤트를 받을 월
+     * @return 구독 SseEmitter
+     * @throws EventMonthsExceededException "EVENT_MONTHS_EXCEEDED"
+     * @throws EventClientSubscriberLimitExceededException "EVENT_CLIENT_SUBSCRIBER_LIMIT_EXCEEDED"
+     * @throws EventSubscriberLimitExceededException "EVENT_SUBSCRIBER_LIMIT_EXCEEDED"
+     */
+    public SseEmitter subscribe(String clientKey, Long roomId, Collection<YearMonth> months) {
+        Set<MonthTopic> topics = new LinkedHashSet<>();
+        for (YearMonth month : months) {
+            topics.add(new MonthTopic(roomId, month));
+        }
+        if (topics.size() > maxMonths) {
+            throw new EventMonthsExceededException();
+        }
+
+        if (clientSubscriberCounts.merge(clientKey, 1, Integer::sum) > maxSubscribersPerClient) {
+            releaseClient(clientKey);
+            throw new EventClientSubscriberLimitExceededException();
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            releaseClient(clientKey);
+            throw new EventSubscriberLimitExceededException();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, clientKey, roomId, Set.copyOf(topics), bufferCapacity);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.add(subscriber);
+        for (MonthTopic topic : subscriber.topics) {
+            reservationTopics.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        roomKeyTopics.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        //응답 헤더를 바로 내보내고, 클라이언트가 구독이 시작된 시점을 알 수 있도록 함
+        subscriber.offer(SseEmitter.event().name(SUBSCRIBED_EVENT).data(topics.stream().map(MonthTopic::month).toList(), MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Set<Subscriber> topicSubscribers = reservationTopics.get(new MonthTopic(event.roomId(), YearMonth.from(event.reservationDate())));
+        if (topicSubscribers == null || topicSubscribers.isEmpty()) {
+            return;
+        }
+
+        ReservationEventDto data = ReservationEventDto.fromEvent(event);
+        for (Subscriber subscriber : topicSubscribers) {
+            subscriber.offer(SseEmitter.event().name(RESERVATION_EVENT).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomKeyChanged(RoomKeyChangedEvent event) {
+        Set<Subscriber> topicSubscribers = roomKeyTopics.get(event.roomId());
+        if (topicSubscribers == null || topicSubscribers.isEmpty()) {
+            return;
+        }
+
+        RoomKeyEventDto data = RoomKeyEventDto.fromEvent(event);
+        for (Subscriber subscriber : topicSubscribers) {
+            subscriber.offer(SseEmitter.event().name(ROOM_KEY_EVENT).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * 프록시, 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 comment를 보냅니다.
+     * 버퍼가 가득 찬 구독자에게는 보내지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerIfRoom(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * send-timeout-ms보다 오래 전송 중인 구독을 끊습니다.
+     * 막힌 전송은 소켓 쓰기가 실패할 때까지 dispatcher 스레드를 붙잡으므로, 그 수만큼 dispatcher 스레드를 늘렸다가
+     * 풀리면 다시 줄입니다.
+     */
+    @Scheduled(fixedDelayString = "${events.send-check-interval-ms:1000}")
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        int stalled = 0;
+        for (Subscriber subscriber : sending) {
+            if (!subscriber.isSendStalled(now, sendTimeoutNanos)) {
+                continue;
+            }
+            stalled++;
+            if (unsubscribe(subscriber)) {
+                log.debug("Closing SSE subscriber stalled in send for over {}ms", TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                //emitter 완료는 진행 중인 send가 끝날 때까지 기다릴 수 있으므로 이 스레드에서 하지 않음
+                Thread.ofVirtual().name("change-event-closer").start(
+                        () -> subscriber.completeWithError(new TimeoutException("SSE send timed out")));
+            }
+        }
+
+        int corePoolSize = Math.min(dispatchThreads + stalled, maxDispatchThreads);
+        if (dispatcher.getCorePoolSize() != corePoolSize) {
+            dispatcher.setCorePoolSize(corePoolSize);
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 종료 시 모든 구독을 닫습니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.complete();
+        }
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 구독을 topic에서 빼고 구독자 수를 돌려 놓습니다.
+     * @return 이번 호출에서 구독이 닫혔다면 true, 이미 닫혀 있었다면 false
+     */
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.remove(subscriber);
+        for (MonthTopic topic : subscriber.topics) {
+            removeFromTopic(reservationTopics, topic, subscriber);
+        }
+        removeFromTopic(roomKeyTopics, subscriber.roomId, subscriber);
+        subscriberCount.decrementAndGet();
+        releaseClient(subscriber.clientKey);
+        return true;
+    }
+
+    private void releaseClient(String clientKey) {
+        clientSubscriberCounts.computeIfPresent(clientKey, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static <K> void removeFromTopic(ConcurrentMap<K, Set<Subscriber>> topics, K key, Subscriber subscriber) {
+        //마지막 구독자가 나가면 topic도 제거. 그 사이 새 구독자가 들어왔다면 남겨 둠
+        topics.computeIfPresent(key, (k, members) -> {
+            members.remove(subscriber);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private record MonthTopic(Long roomId, YearMonth month) {
+    }
+
+    /**
+     * 구독자 하나의 버퍼와 전송 상태. 한 번에 하나의 dispatcher 스레드만 이 구독자에게 전송합니다.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final String clientKey;
+
+        private final Long roomId;
+
+        private final Set<MonthTopic> topics;
+
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private volatile boolean overflowed;
+
+        //진행 중인 send의 시작 시각 (sending에 들어 있을 때만 의미 있음)
+        private volatile long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, String clientKey, Long roomId, Set<MonthTopic> topics, int bufferCapacity) {
+            this.emitter = emitter;
+            this.clientKey = clientKey;
+            this.roomId = roomId;
+            this.topics = topics;
+            this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                overflowed = true;
+            }
+            scheduleDrain();
+        }
+
+        void offerIfRoom(SseEmitter.SseEventBuilder event) {
+            if (!closed.get() && buffer.offer(event)) {
+                scheduleDrain();
+            }
+        }
+
+        void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("Failed to complete SSE subscriber", e);
+            }
+        }
+
+        void completeWithError(Throwable cause) {
+            try {
+                emitter.completeWithError(cause);
+            } catch (RuntimeException ignored) {
+                //이미 완료된 emitter
+            }
+        }
+
+        boolean isSendStalled(long now, long timeoutNanos) {
+            return now - sendStartedNanos > timeoutNanos;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                //종료 중
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    if (overflowed) {
+                        overflowed = false;
+                        buffer.clear();
+                        send(SseEmitter.event().name(OVERFLOW_EVENT).data(""));
+                        continue;
+                    }
+                    SseEmitter.SseEventBuilder event = buffer.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    send(event);
+                }
+            } catch (IOException | RuntimeException e) {
+                //클라이언트가 연결을 끊음
+                unsubscribe(this);
+                completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            //draining을 내려놓는 사이 들어온 이벤트
+            if (!closed.get() && (overflowed || !buffer.isEmpty())) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            sending.add(this);
+            try {
+                emitter.send(event);
+            } finally {
+                sending.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.knucse.diy.domain.service.key;
+
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import com.knucse.diy.domain.model.student.Student;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomKeyHistory 기록을 열쇠 대여/반납 트랜잭션 밖에서 모아 JDBC batch로 저장하는 write-behind appender입니다.
+ * WRITE_BEHIND 모드에서는 대여/반납 트랜잭션이 커밋된 뒤 기록을 고정 크기 버퍼에 넣고,
+ * 백그라운드 스레드가 버퍼를 비우며 batch-size 단위로 한 번에 insert합니다.
+ * 버퍼가 가득 차면 기록을 버리지 않고 호출한 스레드에서 바로 저장합니다.
+ * SYNC 모드에서는 기존처럼 호출한 트랜잭션 안에서 바로 저장하므로, 서버가 비정상 종료되어도 기록이 유실되지 않습니다.
+ */
+@Slf4j
+@Component
+public class RoomKeyHistoryAppender {
+
+    public enum Durability {
+        SYNC, WRITE_BEHIND
+    }
+
+    //IDENTITY 전략이라 Hibernate insert batching이 동작하지 않으므로 JDBC로 직접 batch insert
+    private static final String INSERT_SQL = """
+            INSERT INTO room_key_history (room_id, student_name, student_number, datetime, room_key_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate flushTransactionTemplate;
+
+    private final Durability durability;
+
+    private final int batchSize;
+
+    private final long flushIntervalMillis;
+
+    private final BlockingQueue<Entry> buffer;
+
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public RoomKeyHistoryAppender(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${roomkey.history.durability:WRITE_BEHIND}") Durability durability,
+            @Value("${roomkey.history.buffer-capacity:4096}") int bufferCapacity,
+            @Value("${roomkey.history.batch-size:100}") int batchSize,
+            @Value("${roomkey.history.flush-interval-ms:200}") long flushIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        //커밋 이후(afterCommit)나 백그라운드 스레드에서 저장하므로 항상 새 트랜잭션으로 저장
+        this.flushTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.flusher = new Thread(this::runFlusher, "room-key-history-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (durability == Durability.WRITE_BEHIND) {
+            flusher.start();
+        }
+    }
+
+    /**
+     * 열쇠 상태 변경 기록을 남깁니다.
+     * WRITE_BEHIND 모드에서 트랜잭션 안에서 호출되면, 트랜잭션이 커밋된 경우에만 기록합니다.
+     * @param roomId 열쇠가 속한 공간
+     * @param student 열쇠를 대여/반납한 학생
+     * @param status 변경된 열쇠 상태
+     */
+    public void append(Long roomId, Student student, RoomKeyStatus status) {
+        Entry entry = new Entry(roomId, student.getStudentName(), student.getStudentNumber(), LocalDateTime.now(), status);
+
+        if (durability == Durability.SYNC) {
+            insert(List.of(entry));
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (running && buffer.offer(entry)) {
+            return;
+        }
+        //버퍼가 가득 찼거나 종료 중이라면 기록을 잃지 않도록 바로 저장
+        flush(List.of(entry));
+    }
+
+    private void runFlusher() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                Entry first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> entries) {
+        try {
+            flushTransactionTemplate.executeWithoutResult(status -> insert(entries));
+        } catch (RuntimeException e) {
+            //감사 기록을 복구할 수 있도록 저장하지 못한 내용을 그대로 남김
+            log.error("Failed to write {} room key history rows: {}", entries.size(), entries, e);
+        }
+    }
+
+    private void insert(List<Entry> entries) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.roomId());
+            statement.setString(2, entry.studentName());
+            statement.setString(3, entry.studentNumber());
+            statement.setTimestamp(4, Timestamp.valueOf(entry.date()));
+            statement.setString(5, entry.status().name());
+            statement.setTimestamp(6, now);
+            statement.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 기록을 모두 저장한 뒤 flusher 스레드를 멈춥니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (!flusher.isAlive()) {
+            return;
+        }
+
+        flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (flusher.isAlive()) {
+            log.warn("Room key history flusher did not finish within {} ms, {} rows left", SHUTDOWN_TIMEOUT_MILLIS, buffer.size());
+            return;
+        }
+
+        //flusher가 끝나는 순간에 들어온 기록
+        List<Entry> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        if (!rest.isEmpty()) {
+            flush(rest);
+        }
+    }
+
+    record Entry(Long roomId, String studentName, String studentNumber, LocalDateTime date, RoomKeyStatus status) {
+    }
+}
@@ -1,57 +1,117 @@
 package com.knucse.diy.domain.service.key;
 
 import com.knucse.diy.api.key.dto.KeyCreateDto;
+import com.knucse.diy.api.key.dto.KeyHistoryCursor;
+import com.knucse.diy.api.key.dto.KeyHistoryPageDto;
 import com.knucse.diy.api.key.dto.KeyHistoryReadDto;
 import com.knucse.diy.api.key.dto.KeyReadDto;
 import com.knucse.diy.api.reservation.dto.ReservationReadDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.diy.common.util.export.ExportFormat;
+import com.knucse.diy.common.util.export.RowExportWriter;
+import com.knucse.diy.domain.exception.key.KeyHistoryCursorInvalidException;
+import com.knucse.diy.domain.exception.key.KeyHistoryRangeInvalidException;
 import com.knucse.diy.domain.model.key.RoomKey;
 import com.knucse.diy.domain.model.key.RoomKeyHistory;
 import com.knucse.diy.domain.model.key.RoomKeyStatus;
 import com.knucse.diy.domain.model.student.Student;
 import com.knucse.diy.domain.persistence.key.RoomKeyHistoryRepository;
-import org.springframework.transaction.annotation.Isolation;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RoomKeyHistoryService {
+    public static final Duration DEFAULT_WINDOW = Duration.ofDays(30);
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final RoomKeyHistoryRepository roomKeyHistoryRepository;
+    private final RoomKeyHistoryAppender roomKeyHistoryAppender;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * RoomKeyHistory를 기록합니다.
+     * 기본(WRITE_BEHIND) 설정에서는 호출한 트랜잭션이 커밋된 뒤 RoomKeyHistoryAppender가 모아서 저장하므로,
+     * 대여/반납 응답 시간에 기록 저장 시간이 포함되지 않습니다.
+     * @param roomId 열쇠가 속한 공간
+     * @param student 열쇠를 대여/반납한 학생
+     * @param status 변경된 열쇠 상태
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void appendRoomKeyHistory(Long roomId, Student student, RoomKeyStatus status) {
+        roomKeyHistoryAppender.append(roomId, student, status);
+    }
 
     /**
-     * RoomKeyHistory를 생성합니다.
-     * @return 생성된 RoomkeyHistory의 ReadDto
+     * [from, to) 기간의 RoomKeyHistory를 최신순으로 한 페이지씩 조회합니다.
+     * from과 to가 없다면 최근 DEFAULT_WINDOW 동안의 기록을 조회합니다.
+     * cursor가 있다면 from과 to 대신 cursor에 담긴 첫 페이지의 시작 시각과 cursor 위치로 이어서 조회하므로,
+     * 기간을 생략했더라도 페이지를 넘기는 사이에 조회 기간이 밀리지 않습니다.
+     * @param from 조회 시작 시각(포함), 없으면 to - DEFAULT_WINDOW
+     * @param to 조회 끝 시각(제외), 없으면 현재
+     * @param roomId 공간 필터, 없으면 전체
+     * @param studentNumber 학번 필터, 없으면 전체
+     * @param status 열쇠 상태 필터, 없으면 전체
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 조회된 KeyHistoryPageDto
+     * @throws KeyHistoryRangeInvalidException "KEY_HISTORY_RANGE_INVALID"
+     * @throws KeyHistoryCursorInvalidException "KEY_HISTORY_CURSOR_INVALID"
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public KeyHistoryReadDto createRoomKeyHistory(Student student, RoomKeyStatus status) {
+    public KeyHistoryPageDto findRoomKeyHistory(LocalDateTime from, LocalDateTime to, Long roomId, String studentNumber,
+                                                RoomKeyStatus status, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String studentNumberFilter = studentNumber == null || studentNumber.isBlank() ? null : studentNumber;
 
-        RoomKeyHistory history = RoomKeyHistory.builder()
-                .student(student)
-                .date(LocalDateTime.now())
-                .status(status)
-                .build();
+        if (cursor != null && !cursor.isBlank()) {
+            KeyHistoryCursor before = KeyHistoryCursor.decode(cursor);
+            return KeyHistoryPageDto.of(roomKeyHistoryRepository.findPageBefore(
+                    before.from(), roomId, studentNumberFilter, status, before.date(), before.id(), limit),
+                    pageSize, before.from());
+        }
 
-        roomKeyHistoryRepository.save(history);
+        LocalDateTime rangeEnd = to != null ? to : LocalDateTime.now();
+        LocalDateTime rangeStart = from != null ? from : rangeEnd.minus(DEFAULT_WINDOW);
+        if (!rangeStart.isBefore(rangeEnd)) {
+            throw new KeyHistoryRangeInvalidException();
+        }
 
-        return KeyHistoryReadDto.fromEntity(history);
+        return KeyHistoryPageDto.of(roomKeyHistoryRepository.findPage(
+                rangeStart, rangeEnd, roomId, studentNumberFilter, status, limit), pageSize, rangeStart);
     }
 
     /**
-     * 모든 RoomKeyHistory를 조회합니다.
-     * @return 조회된 모든 Key 혹은 empty List
+     * 모든 RoomKeyHistory를 시간 순으로 outputStream에 씁니다.
+     * DB에서 한 행씩 받아 바로 쓰고 영속성 컨텍스트에서 분리하므로, 이력 수와 관계없이 메모리 사용량이 일정합니다.
+     * @param format ExportFormat
+     * @param outputStream 응답 스트림
+     * @throws IOException 응답 스트림 쓰기 실패
      */
-    public List<KeyHistoryReadDto> findAllRoomKeyHistory(){
-
-        List<RoomKeyHistory> roomKeyHistories = roomKeyHistoryRepository.findAll();
+    public void exportRoomKeyHistory(ExportFormat format, OutputStream outputStream) throws IOException {
+        RowExportWriter<KeyHistoryReadDto> writer =
+                new RowExportWriter<>(format, KeyHistoryReadDto.class, objectMapper, outputStream);
 
-        return roomKeyHistories.stream()
-                .map(KeyHistoryReadDto::fromEntity)
-                .collect(Collectors.toList());
+        try (Stream<RoomKeyHistory> histories = roomKeyHistoryRepository.streamAll()) {
+            histories.forEach(history -> {
+                writer.write(KeyHistoryReadDto.fromEntity(history));
+                entityManager.detach(history);
+            });
+        }
+        writer.finish();
     }
 }
@@ -5,17 +5,22 @@ import com.knucse.diy.domain.exception.key.KeyNotFoundException;
 import com.knucse.diy.domain.exception.key.KeyRentAuthenticationFailedException;
 import com.knucse.diy.domain.exception.key.KeyReturnAuthenticationFailedException;
 import com.knucse.diy.domain.exception.key.KeyStatusMissException;
+import com.knucse.diy.domain.event.key.RoomKeyChangedEvent;
 import com.knucse.diy.domain.model.key.RoomKey;
 import com.knucse.diy.domain.model.key.RoomKeyHistory;
 import com.knucse.diy.domain.model.key.RoomKeyStatus;
 import com.knucse.diy.domain.model.reservation.Reservation;
 import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.room.Room;
 import com.knucse.diy.domain.model.student.Student;
 import com.knucse.diy.domain.persistence.key.RoomKeyHistoryRepository;
 import com.knucse.diy.domain.persistence.key.RoomKeyRepository;
+import com.knucse.diy.domain.service.reservation.ReservationBlackListService;
 import com.knucse.diy.domain.service.reservation.ReservationService;
+import com.knucse.diy.domain.service.room.RoomService;
 import com.knucse.diy.domain.service.student.StudentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +28,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.security.Key;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -34,15 +41,21 @@ public class RoomKeyService {
     private final ReservationService reservationService;
     private final StudentService studentService;
     private final RoomKeyHistoryService roomKeyHistoryService;
+    private final RoomService roomService;
+    private final ReservationBlackListService reservationBlackListService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * KeyCreateDto를 기반으로 Key를 생성합니다.
+     * KeyCreateDto를 기반으로 공간의 Key를 생성합니다.
+     * @param roomId Long, 없으면 기본 공간
      * @return 생성된 key의 ReadDto
+     * @throws com.knucse.diy.domain.exception.room.RoomNotFoundException "ROOM_NOT_FOUND"
      */
     @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public KeyReadDto createKey(){
+    public KeyReadDto createKey(Long roomId){
+        Room room = roomService.findRoomById(roomId);
         KeyCreateDto keyCreateDto = new KeyCreateDto();
-        RoomKey roomKey= roomKeyRepository.save(keyCreateDto.toEntity());
+        RoomKey roomKey= roomKeyRepository.save(keyCreateDto.toEntity(room));
         return KeyReadDto.fromEntity(roomKey,roomKey.getHolder());
     }
 
@@ -55,10 +68,13 @@ public class RoomKeyService {
     }
 
     /**
-     * 제일 처음 등록된 RoomKey 가져오기
+     * 공간에 제일 처음 등록된 RoomKey 가져오기
+     * @param roomId Long, 없으면 기본 공간
+     * @throws KeyNotFoundException "KEY_NOT_FOUND"
+     * @throws com.knucse.diy.domain.exception.room.RoomNotFoundException "ROOM_NOT_FOUND"
      */
-    public RoomKey findFirstKey() {
-        return roomKeyRepository.findFirstKey()
+    public RoomKey findFirstKey(Long roomId) {
+        return roomKeyRepository.findFirstKeyByRoom(roomService.resolveRoomId(roomId))
                 .orElseThrow(KeyNotFoundException::new);
     }
 
@@ -85,24 +101,26 @@ public class RoomKeyService {
 //    }
 
     /**
-     * keyRentDto를 기반으로 key의 대여가능 여부 확인 및 대여합니다.
+     * keyRentDto를 기반으로 공간 key의 대여가능 여부 확인 및 대여합니다.
+     * 당일 해당 공간의 예약이 있어야 대여할 수 있습니다.
      * @param keyRentDto KeyRentDto
      * @return 사물함의 비밀번호
      * @throws KeyRentAuthenticationFailedException "KEY_RENT_AUTHENTICATION_FAILED"
+     * @throws KeyStatusMissException "KEY_STATUS_MISS_EXCEPTION" 열쇠가 보관 중이 아니거나 동시에 다른 요청이 먼저 대여한 경우
      * @throws com.knucse.diy.domain.exception.student.StudentNotFoundException "STUDENT_NOT_FOUND"
      */
     @Transactional
     public KeyReadDto rentKey(KeyRentDto keyRentDto){
-        RoomKey roomKey = findFirstKey(); //첫번째로 저장된 key 가져옴
+        RoomKey roomKey = findFirstKey(keyRentDto.roomId()); //공간에 첫번째로 저장된 key 가져옴
+        Long roomId = roomKey.getRoomId();
 
         Student holder = studentService.findStudentByNameAndNumber(keyRentDto.studentName(), keyRentDto.studentNumber());
-        System.out.println("holder.getStudentName() = " + holder.getStudentName());
         //열쇠가 반납된 상태가 아닌데, 대여 누를 시 예외처리
         if(roomKey.getStatus() != RoomKeyStatus.KEEPING){
             throw new KeyStatusMissException();
         }
 
-        Reservation reservationByStudentAndDate = reservationService.findReservationsByStudentAndDate(holder, LocalDate.now());
+        Reservation reservationByStudentAndDate = reservationService.findReservationsByStudentAndDate(holder, roomId, LocalDate.now());
 
         //입력한 학생의 예약이 당일 없다면 예외처리
         if(reservationByStudentAndDate == null)
@@ -123,42 +141,56 @@ public class RoomKeyService {
 //
 //        LocalDateTime now = LocalDateTime.now();
 
-        roomKey.updateRoomKey(holder,RoomKeyStatus.USING);
+        //위의 상태 검사 이후 다른 요청이 먼저 대여했을 수 있으므로, KEEPING일 때만 바꾸는 조건부 UPDATE로 확정
+        if(roomKeyRepository.rentIfKeeping(roomKey.getId(), holder, LocalDateTime.now()) == 0){
+            throw new KeyStatusMissException();
+        }
 
-        roomKeyHistoryService.createRoomKeyHistory(holder,RoomKeyStatus.USING);
+        roomKeyHistoryService.appendRoomKeyHistory(roomId, holder,RoomKeyStatus.USING);
+        //커밋 이후 RoomKeyScheduler가 예약 종료 시각 기준으로 반납 기한을 등록
+        eventPublisher.publishEvent(RoomKeyChangedEvent.rented(roomKey.getId(), roomId, holder.getId(),
+                LocalDateTime.of(reservationByStudentAndDate.getReservationDate(), reservationByStudentAndDate.getEndTime())));
 
-        return KeyReadDto.fromEntity(roomKey,holder);
+        return KeyReadDto.of(roomKey.getId(), roomId, holder, RoomKeyStatus.USING);
     }
 
     /**
-     * keyReturnDto를 기반으로 key의 반납가능 여부 확인 및 반납합니다.
+     * keyReturnDto를 기반으로 공간 key의 반납가능 여부 확인 및 반납합니다.
+     * 반납 기한이 지나 미반납(NOT_RETURNED) 처리된 key도 같은 holder라면 예약 없이 반납할 수 있습니다.
+     * 이때 추가된 예약 블랙리스트는 그대로 남습니다.
      * @param keyReturnDto KeyReturnDto
      * @throws KeyRentAuthenticationFailedException "KEY_RENT_AUTHENTICATION_FAILED"
      * @throws KeyNotFoundException "KET_NOT_FOUND"
+     * @throws KeyStatusMissException "KEY_STATUS_MISS_EXCEPTION" 열쇠가 대여 중/미반납 상태가 아니거나 동시에 상태가 바뀐 경우
      * @throws com.knucse.diy.domain.exception.student.StudentNotFoundException "STUDENT_NOT_FOUND"
      */
     @Transactional
     public KeyReadDto returnKey(KeyReturnDto keyReturnDto){
         Student lastUser = studentService.findStudentByNameAndNumber(keyReturnDto.studentName(), keyReturnDto.studentNumber());
 
-        RoomKey roomKey = findFirstKey();
+        RoomKey roomKey = findFirstKey(keyReturnDto.roomId());
+        Long roomId = roomKey.getRoomId();
 
         //열쇠를 대여한 사람이 아니라면 예외처리
-        if(roomKey.getHolder() != lastUser){
+        //holder는 지연 로딩 프록시, lastUser는 StudentDirectory의 인스턴스이므로 id로 비교
+        if(roomKey.getHolder() == null || !roomKey.getHolder().getId().equals(lastUser.getId())){
             throw new KeyReturnAuthenticationFailedException();
         }
 
-        //열쇠의 상태가 사용중이 아닌데, 반납을 누를 시 예외처리
-        if(roomKey.getStatus() != RoomKeyStatus.USING){
+        //열쇠의 상태가 사용중이나 미반납이 아닌데, 반납을 누를 시 예외처리
+        if(roomKey.getStatus() != RoomKeyStatus.USING && roomKey.getStatus() != RoomKeyStatus.NOT_RETURNED){
             throw new KeyStatusMissException();
         }
 
-        Reservation reservationByStudentAndDate = reservationService.findReservationsByStudentAndDate(lastUser, LocalDate.now());
+        //미반납 처리된 열쇠는 예약 날짜가 지났을 수 있으므로 당일 예약을 확인하지 않음
+        if(roomKey.getStatus() == RoomKeyStatus.USING){
+            Reservation reservationByStudentAndDate = reservationService.findReservationsByStudentAndDate(lastUser, roomId, LocalDate.now());
 
-        //입력한 학생의 예약이 당일 없다면 예외처리
-        if(reservationByStudentAndDate == null || !reservationByStudentAndDate.getStatus().equals(ReservationStatus.APPROVED))
-        {
-            throw new KeyRentAuthenticationFailedException();
+            //입력한 학생의 예약이 당일 없다면 예외처리
+            if(reservationByStudentAndDate == null || !reservationByStudentAndDate.getStatus().equals(ReservationStatus.APPROVED))
+            {
+                throw new KeyRentAuthenticationFailedException();
+            }
         }
 
 //        // 예약시간 30분 전부터 예약 종료 시간까지 열쇠 대여 가능
@@ -174,20 +206,76 @@ public class RoomKeyService {
 //
 //        LocalDateTime now = LocalDateTime.now();
 
-        roomKey.updateRoomKey(lastUser,RoomKeyStatus.KEEPING);
+        //검사 이후 상태가 바뀌었을 수 있으므로, lastUser가 대여 중이거나 미반납한 상태일 때만 바꾸는 조건부 UPDATE로 확정
+        if(roomKeyRepository.returnIfHeldBy(roomKey.getId(), lastUser, LocalDateTime.now()) == 0){
+            throw new KeyStatusMissException();
+        }
 
-        roomKeyHistoryService.createRoomKeyHistory(lastUser,RoomKeyStatus.KEEPING);
+        roomKeyHistoryService.appendRoomKeyHistory(roomId, lastUser,RoomKeyStatus.KEEPING);
+        eventPublisher.publishEvent(RoomKeyChangedEvent.of(roomKey.getId(), roomId, lastUser.getId(), RoomKeyStatus.KEEPING));
 
-        return KeyReadDto.fromEntity(roomKey,lastUser);
+        return KeyReadDto.of(roomKey.getId(), roomId, lastUser, RoomKeyStatus.KEEPING);
     }
 
-    public KeyReadDto updateRoomKey(Student student, RoomKeyStatus roomKeyStatus){
-        RoomKey key = findFirstKey();
+    /**
+     * 현재 상태와 관계없이 공간 key의 holder와 상태를 변경합니다. (관리자 강제 처리용)
+     * 등록되어 있던 반납 기한은 취소됩니다.
+     * @param roomId Long, 없으면 기본 공간
+     * @param student 새 holder, 없으면 null
+     * @param roomKeyStatus RoomKeyStatus
+     * @return 변경된 key의 ReadDto
+     * @throws KeyNotFoundException "KEY_NOT_FOUND"
+     */
+    @Transactional
+    public KeyReadDto updateRoomKey(Long roomId, Student student, RoomKeyStatus roomKeyStatus){
+        RoomKey key = findFirstKey(roomId);
         key.updateRoomKey(student, roomKeyStatus);
+        eventPublisher.publishEvent(RoomKeyChangedEvent.of(key.getId(), key.getRoomId(),
+                student == null ? null : student.getId(), roomKeyStatus));
 
         return KeyReadDto.fromEntity(key,student);
     }
 
+    /**
+     * 반납 기한이 지난 key를 미반납(NOT_RETURNED) 처리하고 holder를 예약 블랙리스트에 추가합니다.
+     * 그 사이 반납되었거나 다른 학생이 대여 중이라면 아무 일도 하지 않습니다.
+     * @param keyId Long
+     * @param holderId 반납 기한을 등록할 때의 holder
+     * @return 미반납 처리되었다면 true
+     */
+    @Transactional
+    public boolean markNotReturned(Long keyId, Long holderId) {
+        if(roomKeyRepository.markNotReturnedIfHeldBy(keyId, holderId, LocalDateTime.now()) == 0){
+            return false;
+        }
+
+        RoomKey key = findKeyById(keyId);
+        Student holder = key.getHolder();
+        reservationBlackListService.addToBlackList(holder);
+        roomKeyHistoryService.appendRoomKeyHistory(key.getRoomId(), holder, RoomKeyStatus.NOT_RETURNED);
+        eventPublisher.publishEvent(RoomKeyChangedEvent.of(keyId, key.getRoomId(), holderId, RoomKeyStatus.NOT_RETURNED));
+        return true;
+    }
+
+    /**
+     * 대여 중인 모든 key의 반납 기한(예약 종료 시각)을 DB 상태로부터 계산합니다. (서버 시작 시 RoomKeyScheduler 복구용)
+     * 대여한 날의 예약을 찾지 못하면 대여한 날의 끝을 예약 종료 시각으로 봅니다.
+     * @return 대여(USING) 이벤트 List 혹은 empty List
+     */
+    public List<RoomKeyChangedEvent> findRentedKeyDeadlines() {
+        List<RoomKeyChangedEvent> deadlines = new ArrayList<>();
+        for (RoomKey key : roomKeyRepository.findAllRentedWithHolder()) {
+            LocalDate rentDate = key.getUpdatedAt().toLocalDate();
+            Reservation reservation = reservationService.findReservationsByStudentAndDate(key.getHolder(), key.getRoomId(), rentDate);
+
+            LocalDateTime dueAt = reservation == null
+                    ? rentDate.atTime(LocalTime.MAX)
+                    : LocalDateTime.of(reservation.getReservationDate(), reservation.getEndTime());
+            deadlines.add(RoomKeyChangedEvent.rented(key.getId(), key.getRoomId(), key.getHolder().getId(), dueAt));
+        }
+        return deadlines;
+    }
+
 
     /**
      * keyId를 기반으로 key를 삭제합니다.
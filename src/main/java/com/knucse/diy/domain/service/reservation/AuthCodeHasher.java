@@ -0,0 +1,93 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.domain.exception.authcode.AuthCodeHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 예약 인증번호의 BCrypt 해싱/검증을 전용 스레드 풀에서 수행합니다.
+ * 동시에 실행되는 BCrypt 연산 수를 스레드 수로 제한하고, 대기열이 가득 차면 바로 거절하여
+ * 요청이 몰릴 때 CPU와 DB 커넥션이 BCrypt 대기에 묶이지 않도록 합니다.
+ * 호출하는 쪽은 트랜잭션을 열기 전에 사용해야 합니다.
+ */
+@Component
+public class AuthCodeHasher {
+
+    private final BCryptPasswordEncoder encoder;
+
+    private final ThreadPoolExecutor executor;
+
+    public AuthCodeHasher(
+            @Value("${reservation.auth-code.bcrypt-strength:10}") int strength,
+            @Value("${reservation.auth-code.hashing-threads:0}") int threads,
+            @Value("${reservation.auth-code.hashing-queue-capacity:64}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-code-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 인증번호를 해싱합니다.
+     * @param authCode 평문 인증번호
+     * @return BCrypt 해시
+     * @throws AuthCodeHashingBusyException "AUTHENTICATION_CODE_HASHING_BUSY"
+     */
+    public String encode(String authCode) {
+        return execute(() -> encoder.encode(authCode));
+    }
+
+    /**
+     * 인증번호가 해시와 일치하는지 검사합니다.
+     * @param authCode 평문 인증번호
+     * @param hashedCode 저장된 BCrypt 해시
+     * @return 일치하면 true
+     * @throws AuthCodeHashingBusyException "AUTHENTICATION_CODE_HASHING_BUSY"
+     */
+    public boolean matches(String authCode, String hashedCode) {
+        return execute(() -> encoder.matches(authCode, hashedCode));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            throw new AuthCodeHashingBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthCodeHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.domain.model.reservation.ReservationBlackList;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.reservation.ReservationBlackListRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationBlackListService {
+
+    private final ReservationBlackListRepository reservationBlackListRepository;
+
+    private final ReservationBlackListSet reservationBlackListSet;
+
+    /**
+     * 학생이 예약 블랙리스트에 있는지 메모리에서 확인합니다. DB를 조회하지 않습니다.
+     * @param student Student
+     * @return 블랙리스트에 있다면 true
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isBlackListed(Student student) {
+        return reservationBlackListSet.contains(student.getId());
+    }
+
+    /**
+     * 학생을 예약 블랙리스트에 추가합니다. 이미 등록된 학생이라면 아무 일도 하지 않습니다.
+     * @param student Student
+     * @return 새로 등록되었다면 true
+     */
+    @Transactional
+    public boolean addToBlackList(Student student) {
+        if (reservationBlackListRepository.existsByStudent(student)) {
+            return false;
+        }
+
+        reservationBlackListRepository.save(ReservationBlackList.builder()
+                .student(student)
+                .build());
+        reservationBlackListSet.addAfterCommit(student.getId());
+        return true;
+    }
+}
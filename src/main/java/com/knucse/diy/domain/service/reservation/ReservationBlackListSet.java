@@ -0,0 +1,138 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.domain.persistence.reservation.ReservationBlackListRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 블랙리스트에 있는 학생 id를 메모리에 올려두고, 예약 생성 시 DB 없이 등록 여부를 확인하는 집합입니다.
+ * 기동 시 전체를 적재하고 주기적으로 다시 적재하며(다른 서버 인스턴스의 변경 반영),
+ * 그 사이 이 서버에서 추가/삭제된 항목은 트랜잭션이 커밋된 뒤 바로 반영합니다.
+ * 다시 적재하는 도중(조회 ~ 교체 사이)에 반영된 추가/삭제는 기록해 두었다가 새 집합에 다시 적용하므로, 교체로 사라지지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReservationBlackListSet {
+
+    private final ReservationBlackListRepository reservationBlackListRepository;
+
+    //갱신 시 통째로 교체
+    private volatile Set<Long> studentIds = ConcurrentHashMap.newKeySet();
+
+    //진행 중인 refresh 수와, 그 동안 반영된 변경(학생 id -> 추가 여부). this로 보호
+    private int refreshing;
+    private final Map<Long, Boolean> changesDuringRefresh = new HashMap<>();
+
+    public ReservationBlackListSet(ReservationBlackListRepository reservationBlackListRepository) {
+        this.reservationBlackListRepository = reservationBlackListRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 블랙리스트 테이블의 학생 id 전체를 다시 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.black-list.refresh-interval-ms:600000}",
+            initialDelayString = "${reservation.black-list.refresh-interval-ms:600000}")
+    public void refresh() {
+        synchronized (this) {
+            refreshing++;
+        }
+
+        Set<Long> loaded = ConcurrentHashMap.newKeySet();
+        try {
+            loaded.addAll(reservationBlackListRepository.findAllStudentIds());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                endRefresh();
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            //조회 이후 커밋된 변경은 조회 결과에 없을 수 있으므로 다시 적용
+            changesDuringRefresh.forEach((studentId, added) -> {
+                if (added) {
+                    loaded.add(studentId);
+                } else {
+                    loaded.remove(studentId);
+                }
+            });
+            endRefresh();
+            studentIds = loaded;
+        }
+        log.info("Reservation black list loaded: {} students", loaded.size());
+    }
+
+    public boolean contains(Long studentId) {
+        return studentIds.contains(studentId);
+    }
+
+    public int size() {
+        return studentIds.size();
+    }
+
+    /**
+     * 트랜잭션 안이라면 커밋된 뒤에, 아니라면 바로 학생 id를 추가합니다.
+     */
+    public void addAfterCommit(Long studentId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                studentIds.add(studentId);
+                recordChange(studentId, true);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이라면 커밋된 뒤에, 아니라면 바로 학생 id들을 제거합니다.
+     */
+    public void removeAfterCommit(Collection<Long> removedStudentIds) {
+        afterCommit(() -> {
+            synchronized (this) {
+                studentIds.removeAll(removedStudentIds);
+                removedStudentIds.forEach(studentId -> recordChange(studentId, false));
+            }
+        });
+    }
+
+    //this를 잡은 상태에서 호출
+    private void recordChange(Long studentId, boolean added) {
+        if (refreshing > 0) {
+            changesDuringRefresh.put(studentId, added);
+        }
+    }
+
+    //this를 잡은 상태에서 호출
+    private void endRefresh() {
+        if (--refreshing == 0) {
+            changesDuringRefresh.clear();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
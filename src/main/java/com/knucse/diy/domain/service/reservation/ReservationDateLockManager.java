@@ -0,0 +1,63 @@
+package com.knucse.diy.domain.service.reservation;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 공간, 같은 날짜의 예약 생성/수정을 직렬화하는 날짜별 lock striping입니다.
+ * 공간마다 별도의 stripe 배열을 두므로 서로 다른 공간의 예약은 절대 같은 lock을 기다리지 않습니다.
+ * 한 공간 안에서 연속된 날짜는 서로 다른 stripe에 배정되므로 예약 가능 기간(약 30일) 안의 서로 다른 날짜는 서로를 기다리지 않습니다.
+ * lock은 트랜잭션 바깥에서 잡고 커밋 이후에 풀기 때문에, 다음 요청은 항상 앞선 요청의 커밋 결과를 보게 됩니다.
+ */
+@Component
+public class ReservationDateLockManager {
+
+    private static final int STRIPES = 64;
+
+    private final ConcurrentMap<Long, ReentrantLock[]> locksByRoom = new ConcurrentHashMap<>();
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationDateLockManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 해당 공간, 날짜의 lock을 잡은 상태에서 action을 트랜잭션으로 실행하고, 커밋(혹은 롤백) 이후 lock을 해제합니다.
+     * @param roomId Long
+     * @param date LocalDate
+     * @param action 트랜잭션 안에서 실행할 작업
+     * @return action의 반환값
+     */
+    public <T> T executeLocked(Long roomId, LocalDate date, TransactionCallback<T> action) {
+        ReentrantLock lock = lockFor(roomId, date);
+        lock.lock();
+        try {
+            return transactionTemplate.execute(action);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(Long roomId, LocalDate date) {
+        ReentrantLock[] locks = locksByRoom.computeIfAbsent(roomId, id -> newStripes());
+        return locks[(int) Math.floorMod(date.toEpochDay(), (long) STRIPES)];
+    }
+
+    private static ReentrantLock[] newStripes() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
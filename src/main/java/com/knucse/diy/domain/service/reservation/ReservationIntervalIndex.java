@@ -0,0 +1,272 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
+import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.persistence.reservation.ReservationSlotView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공간(room)과 날짜별로 CANCELLED가 아닌 reservation의 시간대와 15분 단위 96칸의 점유 bitmap을 보관하는 인메모리 인덱스입니다.
+ * 빈 시간 조회(availability)에만 사용하며, 예약 생성/수정 시의 겹침 검사는 항상 DB(ReservationRepository.existsOverlapping)로 합니다.
+ * (공간, 날짜)는 처음 조회될 때 DB에서 적재되고, 이후에는 이 인스턴스에서 커밋된 ReservationChangedEvent만 반영합니다.
+ * 다른 서버 인스턴스의 변경은 이벤트로 들어오지 않으므로, 적재 후 ttl-ms가 지나면 DB에서 다시 적재합니다.
+ * 따라서 인덱스의 결과는 최대 ttl-ms만큼 오래된 것일 수 있습니다.
+ * 예약 가능 범위를 벗어난 날짜(지난 날짜 등)는 evict-interval-ms마다 버리므로, 보관하는 날짜 수는 공간마다 한 달 남짓으로 유지됩니다.
+ * 적재되지 않은 날짜들은 id, 날짜, 시간대만 가져오는 projection 쿼리 한 번으로 함께 적재합니다.
+ * 적재는 새 트랜잭션에서 하므로, 호출하는 쪽은 트랜잭션(커넥션)을 잡지 않은 상태에서 호출해야 커넥션을 두 개 쓰지 않습니다.
+ * DB 적재는 ConcurrentHashMap의 bin lock(synchronized) 밖에서 DaySchedule의 ReentrantLock으로 한 번만 수행하므로,
+ * virtual thread에서 실행되어도 적재 중인 carrier thread가 고정(pinning)되지 않습니다.
+ * 각 (공간, 날짜)는 독립된 DaySchedule이므로 서로 다른 공간의 조회/갱신은 같은 monitor를 잡지 않습니다.
+ */
+@Component
+public class ReservationIntervalIndex {
+
+    public static final int SLOT_MINUTES = 15;
+
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private final ReservationRepository reservationRepository;
+
+    private final TransactionTemplate loadTransactionTemplate;
+
+    private final ConcurrentMap<RoomDate, DaySchedule> schedules = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+
+    public ReservationIntervalIndex(ReservationRepository reservationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${reservation.interval-index.ttl-ms:60000}") long ttlMillis) {
+        this.reservationRepository = reservationRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+
+        //호출한 쪽 트랜잭션의 스냅샷이 아닌, 적재 시점의 커밋된 상태를 읽기 위해 새 트랜잭션에서 적재
+        this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.loadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 해당 공간의 startDate ~ endDate 각 날짜의 점유 bitmap을 반환합니다.
+     * i번째 bit(words[i / 64]의 i % 64번째 bit)는 i * 15분부터 15분 동안 예약이 있는지를 나타냅니다.
+     * @param roomId Long
+     * @param startDate LocalDate
+     * @param endDate LocalDate
+     * @return 날짜 순서대로, 길이 2의 long 배열 복사본 List
+     */
+    public List<long[]> occupancy(Long roomId, LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+        List<DaySchedule> days = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            days.add(schedule(new RoomDate(roomId, date)));
+        }
+        loadMissing(roomId, dates, days);
+        return days.stream().map(DaySchedule::occupancy).toList();
+    }
+
+    /**
+     * 예약 가능 범위(오늘 - BOOKABLE_DAYS_BEFORE일 ~ 오늘 + BOOKABLE_DAYS_AFTER일)를 벗어난 날짜의 적재 결과를 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.interval-index.evict-interval-ms:3600000}")
+    public void evictOutsideBookableWindow() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(ReservationService.BOOKABLE_DAYS_BEFORE);
+        LocalDate to = today.plusDays(ReservationService.BOOKABLE_DAYS_AFTER);
+        schedules.keySet().removeIf(key -> key.date().isBefore(from) || key.date().isAfter(to));
+    }
+
+    /**
+     * 커밋된 reservation 변경을 인덱스에 반영합니다.
+     * 아직 적재되지 않은 (공간, 날짜)는 이후 첫 조회 시 DB에서 최신 상태로 적재되므로 무시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        DaySchedule schedule = schedules.get(new RoomDate(event.roomId(), event.reservationDate()));
+        if (schedule == null) {
+            return;
+        }
+        if (event.occupiesSlot()) {
+            schedule.applyIfLoaded(new Slot(event.reservationId(), toMinute(event.startTime()), toMinute(event.endTime())), null);
+        } else {
+            schedule.applyIfLoaded(null, event.reservationId());
+        }
+    }
+
+    private DaySchedule schedule(RoomDate key) {
+        DaySchedule schedule = schedules.computeIfAbsent(key, k -> new DaySchedule());
+        if (schedule.isExpired(ttlNanos)) {
+            //다른 서버 인스턴스에서 커밋된 변경을 반영하기 위해 새 schedule로 다시 적재
+            schedules.remove(key, schedule);
+            schedule = schedules.computeIfAbsent(key, k -> new DaySchedule());
+        }
+        return schedule;
+    }
+
+    /**
+     * 아직 적재되지 않은 날짜들을 한 번의 쿼리로 적재합니다.
+     * 적재할 schedule의 loadLock을 날짜 순서대로 잡으므로, 겹치는 범위를 동시에 적재해도 교착 상태가 생기지 않고
+     * 한 날짜는 한 스레드만 적재합니다.
+     */
+    private void loadMissing(Long roomId, List<LocalDate> dates, List<DaySchedule> days) {
+        Map<LocalDate, DaySchedule> loading = new HashMap<>();
+        try {
+            for (int i = 0; i < days.size(); i++) {
+                if (days.get(i).beginLoad()) {
+                    loading.put(dates.get(i), days.get(i));
+                }
+            }
+            if (loading.isEmpty()) {
+                return;
+            }
+
+            LocalDate first = loading.keySet().stream().min(LocalDate::compareTo).orElseThrow();
+            LocalDate last = loading.keySet().stream().max(LocalDate::compareTo).orElseThrow();
+            List<ReservationSlotView> views = loadTransactionTemplate.execute(
+                    status -> reservationRepository.findSlotsWithinDateRange(roomId, first, last));
+
+            Map<LocalDate, List<Slot>> slotsByDate = new HashMap<>();
+            for (ReservationSlotView view : views) {
+                slotsByDate.computeIfAbsent(view.reservationDate(), date -> new ArrayList<>())
+                        .add(new Slot(view.id(), toMinute(view.startTime()), toMinute(view.endTime())));
+            }
+            loading.forEach((date, day) -> day.completeLoad(slotsByDate.getOrDefault(date, List.of())));
+        } finally {
+            loading.values().forEach(DaySchedule::endLoad);
+        }
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    record RoomDate(Long roomId, LocalDate date) {
+    }
+
+    record Slot(Long reservationId, int startMinute, int endMinute) {
+    }
+
+    /**
+     * 하루치 시간대 목록과 점유 bitmap
+     */
+    static class DaySchedule {
+        private final Map<Long, Slot> slotsById = new HashMap<>();
+        private final long[] occupancy = new long[(SLOTS_PER_DAY + 63) / 64];
+
+        //DB 적재와, 적재 도중 커밋된 변경의 반영 순서를 맞추기 위한 lock
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile boolean loaded;
+        private long loadedAtNanos;
+
+        /**
+         * 아직 적재되지 않았다면 loadLock을 잡고 true를 반환합니다. 이때 호출한 쪽은 completeLoad 후 반드시 endLoad를 호출해야 합니다.
+         * 다른 스레드가 적재 중이라면 끝날 때까지 기다립니다.
+         */
+        boolean beginLoad() {
+            if (loaded) {
+                return false;
+            }
+            loadLock.lock();
+            if (loaded) {
+                loadLock.unlock();
+                return false;
+            }
+            return true;
+        }
+
+        void completeLoad(List<Slot> loadedSlots) {
+            synchronized (this) {
+                loadedSlots.forEach(this::put);
+            }
+            //loaded(volatile)보다 먼저 기록하므로 loaded를 읽은 스레드에 보임
+            loadedAtNanos = System.nanoTime();
+            loaded = true;
+        }
+
+        void endLoad() {
+            loadLock.unlock();
+        }
+
+        /**
+         * 적재한 지 ttlNanos가 지났는지 확인합니다. 아직 적재되지 않았다면 false입니다.
+         */
+        boolean isExpired(long ttlNanos) {
+            return loaded && System.nanoTime() - loadedAtNanos > ttlNanos;
+        }
+
+        /**
+         * 적재가 끝난 schedule에만 변경을 반영합니다. 적재 중이라면 끝날 때까지 기다렸다가 반영하고,
+         * 아직 적재를 시작하지 않았다면 이후 적재가 커밋된 변경을 읽으므로 무시합니다.
+         * @param slot 추가/수정할 시간대, 없으면 null
+         * @param removedId 제거할 reservationId, 없으면 null
+         */
+        void applyIfLoaded(Slot slot, Long removedId) {
+            loadLock.lock();
+            try {
+                if (!loaded) {
+                    return;
+                }
+                if (slot != null) {
+                    put(slot);
+                } else {
+                    remove(removedId);
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        synchronized void put(Slot slot) {
+            Slot previous = slotsById.put(slot.reservationId(), slot);
+            if (previous != null) {
+                rebuildOccupancy();
+            } else {
+                mark(slot);
+            }
+        }
+
+        synchronized void remove(Long reservationId) {
+            Slot previous = slotsById.remove(reservationId);
+            if (previous != null) {
+                //15분 칸을 다른 예약과 나눠 쓰고 있을 수 있으므로 남은 시간대로 다시 계산
+                rebuildOccupancy();
+            }
+        }
+
+        synchronized long[] occupancy() {
+            return occupancy.clone();
+        }
+
+        private void rebuildOccupancy() {
+            Arrays.fill(occupancy, 0L);
+            slotsById.values().forEach(this::mark);
+        }
+
+        private void mark(Slot slot) {
+            if (slot.endMinute() <= slot.startMinute()) {
+                return;
+            }
+            int first = slot.startMinute() / SLOT_MINUTES;
+            int last = (slot.endMinute() - 1) / SLOT_MINUTES;
+            for (int i = first; i <= last; i++) {
+                occupancy[i >>> 6] |= 1L << (i & 63);
+            }
+        }
+    }
+}
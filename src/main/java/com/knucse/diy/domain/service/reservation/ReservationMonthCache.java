@@ -0,0 +1,150 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.api.reservation.dto.ReservationMonthCacheStatsDto;
+import com.knucse.diy.api.reservation.dto.ReservationReadDto;
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공간(room)별, 월별 reservation 조회 결과(불변 ReadDto List)를 보관하는 LRU 캐시입니다.
+ * 해당 공간, 월의 날짜를 건드리는 변경이 커밋(혹은 롤백)되면 그 월만 정확히 제거합니다.
+ * 다른 서버 인스턴스의 변경은 이벤트로 들어오지 않으므로, 캐시한 지 ttl-ms가 지난 항목은 사용하지 않고 다시 조회합니다.
+ * 공간마다 독립된 shard(LRU와 lock)를 두므로, 한 공간의 조회나 무효화가 다른 공간의 캐시 항목을 밀어내거나 기다리게 하지 않습니다.
+ */
+@Component
+public class ReservationMonthCache {
+
+    private final int capacity;
+
+    private final long ttlNanos;
+
+    private final ConcurrentMap<Long, Shard> shards = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param capacity 공간 하나당 캐시할 최대 월 수
+     * @param ttlMillis 캐시한 결과를 사용할 최대 시간
+     */
+    public ReservationMonthCache(@Value("${reservation.cache.month-capacity:24}") int capacity,
+                                 @Value("${reservation.cache.ttl-ms:60000}") long ttlMillis) {
+        this.capacity = capacity;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * 캐시된 공간별 월 조회 결과를 반환하고, 없다면 loader로 조회하여 캐시에 넣습니다.
+     * @param roomId Long
+     * @param yearMonth YearMonth
+     * @param loader DB 조회
+     * @return 불변 ReservationReadDto List
+     */
+    public List<ReservationReadDto> get(Long roomId, YearMonth yearMonth, Supplier<List<ReservationReadDto>> loader) {
+        return shard(roomId).get(yearMonth, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        evict(event.roomId(), YearMonth.from(event.reservationDate()));
+    }
+
+    public void evict(Long roomId, YearMonth yearMonth) {
+        shard(roomId).evict(yearMonth);
+    }
+
+    public ReservationMonthCacheStatsDto stats() {
+        int size = 0;
+        for (Shard shard : shards.values()) {
+            size += shard.size();
+        }
+        return new ReservationMonthCacheStatsDto(
+                hitCount.get(),
+                missCount.get(),
+                evictionCount.get(),
+                size,
+                capacity * Math.max(1, shards.size())
+        );
+    }
+
+    private Shard shard(Long roomId) {
+        return shards.computeIfAbsent(roomId, id -> new Shard());
+    }
+
+    private record CachedMonth(List<ReservationReadDto> reservations, long loadedAtNanos) {
+    }
+
+    /**
+     * 한 공간의 월별 LRU
+     */
+    private class Shard {
+
+        private final Map<YearMonth, CachedMonth> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, CachedMonth> eldest) {
+                if (size() > capacity) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        //월별 무효화 횟수. 조회 도중 무효화된 결과가 다시 캐시에 들어가는 것을 막기 위해 사용
+        private final Map<YearMonth, Long> generations = new HashMap<>();
+
+        List<ReservationReadDto> get(YearMonth yearMonth, Supplier<List<ReservationReadDto>> loader) {
+            long generation;
+            synchronized (this) {
+                CachedMonth cached = entries.get(yearMonth);
+                if (cached != null && System.nanoTime() - cached.loadedAtNanos() <= ttlNanos) {
+                    hitCount.incrementAndGet();
+                    return cached.reservations();
+                }
+                if (cached != null) {
+                    entries.remove(yearMonth);
+                    evictionCount.incrementAndGet();
+                }
+                generation = generations.getOrDefault(yearMonth, 0L);
+            }
+
+            missCount.incrementAndGet();
+            //조회를 시작한 시각을 기준으로 하여, 조회 도중 다른 인스턴스에서 커밋된 변경도 ttl 안에 반영되도록 함
+            long loadStartedNanos = System.nanoTime();
+            List<ReservationReadDto> loaded = List.copyOf(loader.get());
+
+            synchronized (this) {
+                if (generations.getOrDefault(yearMonth, 0L) == generation) {
+                    entries.put(yearMonth, new CachedMonth(loaded, loadStartedNanos));
+                }
+            }
+            return loaded;
+        }
+
+        synchronized void evict(YearMonth yearMonth) {
+            generations.merge(yearMonth, 1L, Long::sum);
+            if (entries.remove(yearMonth) != null) {
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
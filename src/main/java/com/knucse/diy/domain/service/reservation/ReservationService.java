@@ -1,92 +1,153 @@
 package com.knucse.diy.domain.service.reservation;
 
 import com.knucse.diy.api.reservation.dto.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knucse.diy.common.util.export.ExportFormat;
+import com.knucse.diy.common.util.export.RowExportWriter;
 import com.knucse.diy.domain.exception.authcode.AuthCodeBadRequestException;
 import com.knucse.diy.domain.exception.authcode.AuthCodeMismatchException;
+import com.knucse.diy.domain.exception.reservation.AvailabilityRangeExceededException;
+import com.knucse.diy.domain.exception.reservation.ReservationBlackListedException;
 import com.knucse.diy.domain.exception.reservation.ReservationDateOutOfRangeException;
+import com.knucse.diy.domain.exception.reservation.ReservationCursorInvalidException;
 import com.knucse.diy.domain.exception.reservation.ReservationDuplicatedException;
 import com.knucse.diy.domain.exception.reservation.ReservationNotFoundException;
 import com.knucse.diy.domain.exception.reservation.ReservationDailyLimitReachedException;
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
 import com.knucse.diy.domain.model.reservation.Reservation;
 import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.room.Room;
 import com.knucse.diy.domain.model.student.Student;
 import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.service.room.RoomService;
 import com.knucse.diy.domain.service.student.StudentService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Pageable;
+import com.knucse.diy.domain.exception.room.RoomNotFoundException;
 import com.knucse.diy.domain.exception.student.StudentNotFoundException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.knucse.diy.common.util.datetime.DateTimeUtil.isBetweenInclusive;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    private static final long MAX_AVAILABILITY_DAYS = 62;
+
+    //예약할 수 있는 날짜 범위 (오늘로부터 며칠 전, 며칠 후)
+    static final int BOOKABLE_DAYS_BEFORE = 1;
+
+    static final int BOOKABLE_DAYS_AFTER = 29;
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
 
     private final StudentService studentService;
 
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final RoomService roomService;
+
+    private final ReservationBlackListService reservationBlackListService;
+
+    private final AuthCodeHasher authCodeHasher;
+
+    private final ReservationIntervalIndex reservationIntervalIndex;
+
+    private final ReservationDateLockManager reservationDateLockManager;
+
+    private final ReservationMonthCache reservationMonthCache;
+
+    private final ReservationVersionRegistry reservationVersionRegistry;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
 
     /**
-     * reservation을 생성합니다.
+     * reservation을 생성합니다. roomId가 없다면 기본 공간에 예약합니다.
      * @param createDto ReservationCreateDto
      * @return 생성된 Reservation의 readDto
      * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+     * @throws ReservationBlackListedException "RESERVATION_BLACK_LISTED"
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
      * @throws ReservationDuplicatedException "RESERVATION_DUPLICATED"
      * @throws AuthCodeBadRequestException "AUTHENTICATION_CODE_MUST_BE_4_DIGITS"
      * @throws ReservationDailyLimitReachedException "DAILY_LIMIT_REACHED"
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReservationReadDto createReservation(ReservationCreateDto createDto)
     {
         Student student = retrieveStudent(createDto);
 
+        //블랙리스트 학생은 해싱, lock, DB 조회 전에 메모리에서 바로 거절합니다
+        if(reservationBlackListService.isBlackListed(student)){
+            throw new ReservationBlackListedException();
+        }
 
-        Reservation reservationByStudentAndDate = findReservationsByStudentAndDate(student, createDto.reservationDate());
+        Room room = roomService.findRoomById(createDto.roomId());
 
         //현재 시간으로부터 4주 이내의 날짜만 예약할 수 있습니다
-        if(!isBetweenInclusive(createDto.reservationDate(), LocalDate.now().minusDays(1), LocalDate.now().plusDays(29))){
+        if(!isBetweenInclusive(createDto.reservationDate(), LocalDate.now().minusDays(BOOKABLE_DAYS_BEFORE), LocalDate.now().plusDays(BOOKABLE_DAYS_AFTER))){
             throw new ReservationDateOutOfRangeException();
         }
 
-        //한 학생은 하루에 두번 예약할 수 없습니다
-        if(reservationByStudentAndDate != null){
-            throw new ReservationDailyLimitReachedException();
-        }
-
-
         String authCode = createDto.authCode();
         //인증번호 길이가 4자리 숫자가 아니라면 예외처리
         if (!authCode.matches("\\d{4}")) {
             throw new AuthCodeBadRequestException();
         }
 
-        String hashedCode = passwordEncoder.encode(authCode); // 인증번호 해싱
+        String hashedCode = authCodeHasher.encode(authCode); // 인증번호 해싱 (트랜잭션 밖)
 
-        Reservation reservation = createDto.toEntity(student, hashedCode);
+        Reservation reservation = createDto.toEntity(student, room, hashedCode);
+
+        //같은 공간, 같은 날짜의 예약은 lock을 잡고 하나씩 처리하여 동시 요청이 모두 검사를 통과하는 것을 막습니다
+        return reservationDateLockManager.executeLocked(room.getId(), createDto.reservationDate(), status -> {
+            //다른 서버 인스턴스의 동시 insert를 막기 위한 DB 측 guard
+            reservationRepository.lockByReservationDate(room.getId(), reservation.getReservationDate());
+
+            //한 학생은 한 공간을 하루에 두번 예약할 수 없습니다
+            if(findReservationsByStudentAndDate(student, room.getId(), reservation.getReservationDate()) != null){
+                throw new ReservationDailyLimitReachedException();
+            }
+
+            //겹치는 시간대의 예약이 있는지 확인
+            if(isReservationTimeOverlapping(reservation)){
+                throw new ReservationDuplicatedException();
+            }
 
-        //겹치는 시간대의 예약이 있는지 확인
-        if(isReservationTimeOverlapping(reservation)){
-            throw new ReservationDuplicatedException();
-        }else {
             Reservation savedReservation = reservationRepository.save(reservation);
+            eventPublisher.publishEvent(ReservationChangedEvent.fromEntity(savedReservation));
             return ReservationReadDto.fromEntity(savedReservation);
-        }
+        });
     }
 
     /**
@@ -100,44 +161,96 @@ public class ReservationService {
                 .orElseThrow(ReservationNotFoundException::new);
     }
 
+    /**
+     * reservationId를 기반으로 reservation을 locking read로 조회합니다. 트랜잭션 안에서 호출해야 합니다.
+     * @param reservationId Long
+     * @return 조회된 영속 상태의 reservation
+     * @throws ReservationNotFoundException "RESERVATION_NOT_FOUND"
+     */
+    private Reservation findReservationByIdForUpdate(Long reservationId){
+        return reservationRepository.findByIdForUpdate(reservationId)
+                .orElseThrow(ReservationNotFoundException::new);
+    }
+
+    /**
+     * 트랜잭션 밖에서 인증번호를 검증한 reservation을 트랜잭션 안에서 locking read로 다시 조회합니다.
+     * 검증 이후 인증번호가 바뀌었다면 검증한 인증번호는 더 이상 유효하지 않으므로 거절합니다.
+     * @param reservationId Long
+     * @param verifiedHash 검증에 사용한 authCode hash
+     * @return 조회된 영속 상태의 reservation
+     * @throws ReservationNotFoundException "RESERVATION_NOT_FOUND"
+     * @throws AuthCodeMismatchException "AUTH CODE MISMATCH"
+     */
+    private Reservation findVerifiedReservationForUpdate(Long reservationId, String verifiedHash){
+        Reservation reservation = findReservationByIdForUpdate(reservationId);
+        if(!Objects.equals(reservation.getAuthCode(), verifiedHash)){
+            throw new AuthCodeMismatchException();
+        }
+        return reservation;
+    }
+
 
     /**
-     * reservationDate(특정 일)를 기반으로 reservation을 조회합니다.
+     * 공간과 reservationDate(특정 일)를 기반으로 reservation을 조회합니다.
+     * @param roomId Long
      * @param reservationDate LocalDate
      * @return 조회된 reservation entity List 혹은 empty List
      */
-    public List<Reservation> findReservationByDate(LocalDate reservationDate){
-        return reservationRepository.findByReservationDate(reservationDate);
+    public List<Reservation> findReservationByDate(Long roomId, LocalDate reservationDate){
+        return reservationRepository.findByRoomAndReservationDate(roomId, reservationDate);
     }
 
     /**
-     * reservationDate와 학생을 기반으로 reservation을 조회합니다.
+     * 학생, 공간, reservationDate를 기반으로 reservation을 조회합니다.
      * @param student Student
+     * @param roomId Long
      * @param date LocalDate
      * @return 조회된 reservation entity 혹은 null
      */
-    public Reservation findReservationsByStudentAndDate(Student student, LocalDate date) {
-        return reservationRepository.findByStudentAndReservationDate(student, date)
+    public Reservation findReservationsByStudentAndDate(Student student, Long roomId, LocalDate date) {
+        return reservationRepository.findByStudentAndRoomAndReservationDate(student, roomId, date)
                 .orElse(null); // Optional을 처리하여 null 반환
     }
 
 
 
     /**
-     * reservationMonth(특정 월)을 기반으로 reservation을 조회합니다.
+     * 공간과 reservationMonth(특정 월)을 기반으로 reservation을 조회합니다.
+     * 결과는 ReservationMonthCache에 공간별로 캐시되며, 해당 공간, 월의 예약이 변경되면 무효화됩니다.
      *
+     * @param roomId Long, 없으면 기본 공간
      * @param yearMonth YearMonth
      * @return 조회된 reservation entity List 혹은 empty List
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
      */
-    public List<ReservationReadDto> findReservationsByMonth(YearMonth yearMonth) {
-        LocalDate startOfMonth = yearMonth.atDay(1); // 해당 월의 첫 번째 날
-        LocalDate endOfMonth = yearMonth.atEndOfMonth(); // 해당 월의 마지막 날
-        List<Reservation> reservations = reservationRepository.findByReservationDateBetween(startOfMonth, endOfMonth);
+    public List<ReservationReadDto> findReservationsByMonth(Long roomId, YearMonth yearMonth) {
+        Long resolvedRoomId = roomService.resolveRoomId(roomId);
+        return reservationMonthCache.get(resolvedRoomId, yearMonth, () -> {
+            LocalDate startOfMonth = yearMonth.atDay(1); // 해당 월의 첫 번째 날
+            LocalDate endOfMonth = yearMonth.atEndOfMonth(); // 해당 월의 마지막 날
+            return reservationRepository.findReservationsWithinDateRange(resolvedRoomId, startOfMonth, endOfMonth);
+        });
+    }
 
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 공간의 startDate와 endDate 사이 예약 목록의 버전(ETag)을 조회합니다.
+     * 해당 공간, 범위의 예약이 변경되면 값이 바뀝니다.
+     * @param roomId Long, 없으면 기본 공간
+     * @param startDate LocalDate
+     * @param endDate LocalDate
+     * @return ETag
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
+     */
+    public String getReservationsETag(Long roomId, LocalDate startDate, LocalDate endDate) {
+        return reservationVersionRegistry.eTag(roomService.resolveRoomId(roomId), startDate, endDate);
+    }
+
+    /**
+     * 월별 예약 조회 캐시의 hit/miss/eviction 통계를 조회합니다.
+     * @return ReservationMonthCacheStatsDto
+     */
+    public ReservationMonthCacheStatsDto getMonthCacheStats() {
+        return reservationMonthCache.stats();
     }
 
     /**
@@ -193,144 +306,203 @@ public class ReservationService {
     }
 
     /**
-     * 현재 시점으로부터 가까운 예약을 최대 limit개 만큼 조회합니다.
+     * 공간에서 현재 시점으로부터 가까운 예약을 최대 limit개 만큼 조회합니다.
      *
+     * @param roomId Long, 없으면 기본 공간
      * @param limit
      * @return 가져온 reservation의 readDto 혹은 empty list
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
      */
-    public List<ReservationReadDto> getClosestReservations(int limit) {
+    public List<ReservationReadDto> getClosestReservations(Long roomId, int limit) {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
         Pageable pageable = PageRequest.of(0, limit); // Maximum 'limit' reservations
-        List<Reservation> reservations = reservationRepository.findClosestReservations(currentDate, currentTime, pageable);
-
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+        return reservationRepository.findClosestReservations(roomService.resolveRoomId(roomId), currentDate, currentTime, pageable);
     }
 
     /**
-     * targetDate과 minusDay, plusDay로 정해진 범위의 예약을 가져옵니다.
+     * 공간에서 targetDate과 minusDay, plusDay로 정해진 범위의 예약을 가져옵니다.
+     * @param roomId Long, 없으면 기본 공간
      * @param targetDate LocalDate
      * @return 가져온 reservation의 ReadDtoList 혹은 빈 리스트
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
      */
-    public List<ReservationReadDto> getReservationsWithinRange(LocalDate targetDate,long minusDay, long plusDay) {
+    public List<ReservationReadDto> getReservationsWithinRange(Long roomId, LocalDate targetDate,long minusDay, long plusDay) {
         LocalDate startDate = targetDate.minusDays(minusDay);
         LocalDate endDate = targetDate.plusDays(plusDay);
 
-        List<Reservation> reservations = reservationRepository.findReservationsWithinDateRange(startDate, endDate);
-
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+        return reservationRepository.findReservationsWithinDateRange(roomService.resolveRoomId(roomId), startDate, endDate);
     }
 
     /**
-     * startDate와 endDate 사이의 예약을 가져옵니다.
+     * 공간에서 startDate와 endDate 사이의 예약을 가져옵니다.
+     * @param roomId Long, 없으면 기본 공간
      * @param startDate LocalDate
      * @param endDate LocalDate
      * @return 가져온 reservation의 ReadDtoList 혹은 빈 리스트
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
      */
-    public List<ReservationReadDto> getReservationsWithinRange(LocalDate startDate, LocalDate endDate) {
-        List<Reservation> reservations = reservationRepository.findReservationsWithinDateRange(startDate, endDate);
+    public List<ReservationReadDto> getReservationsWithinRange(Long roomId, LocalDate startDate, LocalDate endDate) {
+        return reservationRepository.findReservationsWithinDateRange(roomService.resolveRoomId(roomId), startDate, endDate);
+    }
 
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 공간의 startDate와 endDate 사이 각 날짜의 15분 단위 점유 bitmap을 조회합니다.
+     * 인메모리 인덱스에 예약할 수 없는 날짜가 쌓이지 않도록, 조회 범위는 예약 가능 범위(오늘 - 1일 ~ 오늘 + 29일)로 줄여서
+     * 그 안의 날짜만 반환합니다. 겹치는 날짜가 없다면 빈 리스트를 반환합니다.
+     * 인덱스에 없는 날짜는 인덱스가 새 트랜잭션에서 한 번의 쿼리로 적재하므로, 커넥션을 두 개 잡지 않도록 트랜잭션 없이 실행합니다.
+     * @param roomId Long, 없으면 기본 공간
+     * @param startDate LocalDate
+     * @param endDate LocalDate
+     * @return 날짜별 AvailabilityReadDto List
+     * @throws AvailabilityRangeExceededException "AVAILABILITY_RANGE_EXCEEDED"
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<AvailabilityReadDto> getAvailability(Long roomId, LocalDate startDate, LocalDate endDate) {
+        if(endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_AVAILABILITY_DAYS){
+            throw new AvailabilityRangeExceededException();
+        }
+
+        Long resolvedRoomId = roomService.resolveRoomId(roomId);
+
+        LocalDate today = LocalDate.now();
+        LocalDate from = latest(startDate, today.minusDays(BOOKABLE_DAYS_BEFORE));
+        LocalDate to = earliest(endDate, today.plusDays(BOOKABLE_DAYS_AFTER));
+        if(to.isBefore(from)){
+            return List.of();
+        }
+
+        List<long[]> occupancies = reservationIntervalIndex.occupancy(resolvedRoomId, from, to);
+        List<AvailabilityReadDto> availability = new ArrayList<>(occupancies.size());
+        for (int i = 0; i < occupancies.size(); i++) {
+            availability.add(AvailabilityReadDto.fromOccupancy(from.plusDays(i), occupancies.get(i)));
+        }
+        return availability;
     }
 
     /**
-     * 학생 이름을 기반으로 예약을 조회합니다.
-     * @param studentName
-     * @return 조회된 예약의 readDto
+     * 학생 이름을 기반으로 예약을 (reservationDate, startTime, id) 순으로 한 페이지씩 조회합니다.
+     * @param studentName String
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 조회된 예약의 ReservationPageDto
+     * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+     * @throws ReservationCursorInvalidException "RESERVATION_CURSOR_INVALID"
      */
-    public List<ReservationReadDto> findReservationByStudentName(String studentName){
+    public ReservationPageDto findReservationByStudentName(String studentName, String cursor, int size){
         Student student = studentService.findStudentByStudentName(studentName);
 
-        List<Reservation> reservations = reservationRepository.findByStudent(student);
-
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+        return findReservationPageByStudent(student, cursor, size);
     }
 
     /**
-     * 학생 학번을 기반으로 예약을 조회합니다.
-     * @param studentNumber
-     * @return 조회된 예약의 readDto
+     * 학생 학번을 기반으로 예약을 (reservationDate, startTime, id) 순으로 한 페이지씩 조회합니다.
+     * @param studentNumber String
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 조회된 예약의 ReservationPageDto
+     * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
+     * @throws ReservationCursorInvalidException "RESERVATION_CURSOR_INVALID"
      */
-    public List<ReservationReadDto> findReservationByStudentNumber(String studentNumber){
+    public ReservationPageDto findReservationByStudentNumber(String studentNumber, String cursor, int size){
         Student student = studentService.findStudentByStudentNumber(studentNumber);
 
-        List<Reservation> reservations = reservationRepository.findByStudent(student);
+        return findReservationPageByStudent(student, cursor, size);
+    }
 
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+    private ReservationPageDto findReservationPageByStudent(Student student, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        if (cursor == null || cursor.isBlank()) {
+            return ReservationPageDto.of(reservationRepository.findPageByStudent(student, limit), pageSize);
+        }
+
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        return ReservationPageDto.of(reservationRepository.findPageByStudentAfter(
+                student, after.reservationDate(), after.startTime(), after.id(), limit), pageSize);
     }
 
     /**
-     * 예약 상태를 기반으로 예약을 조회합니다.
-     * @param status
-     * @return 조회된 예약의 readDto
+     * 예약 상태를 기반으로 예약을 (reservationDate, startTime, id) 순으로 한 페이지씩 조회합니다.
+     * cursor 위치부터 인덱스를 읽으므로 몇 번째 페이지든 조회 비용이 같습니다.
+     * @param status ReservationStatus
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 조회된 예약의 ReservationPageDto
+     * @throws ReservationCursorInvalidException "RESERVATION_CURSOR_INVALID"
      */
-    public List<ReservationReadDto> findReservationByStatus(ReservationStatus status){
+    public ReservationPageDto findReservationByStatus(ReservationStatus status, String cursor, int size){
+        int pageSize = clampPageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        List<Reservation> reservations = reservationRepository.findByStatus(status);
+        if (cursor == null || cursor.isBlank()) {
+            return ReservationPageDto.of(reservationRepository.findPageByStatus(status, limit), pageSize);
+        }
 
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        return ReservationPageDto.of(reservationRepository.findPageByStatusAfter(
+                status, after.reservationDate(), after.startTime(), after.id(), limit), pageSize);
     }
 
-
     /**
-     * 입력받은 reservation을 기반으로 겹치는 시간대의 reservation이 있는지 검사
-     * @param reservation Reservation
-     * @return 겹치는 시간대의 reservation이 없다면 False, 있다면 true
-     * @throws ReservationDuplicatedException "RESERVATION_DUPLICATED"
+     * 예약 상태를 기반으로 모든 예약을 (reservationDate, startTime, id) 순으로 outputStream에 씁니다.
+     * DB에서 한 행씩 받아 바로 쓰고 영속성 컨텍스트에서 분리하므로, 예약 수와 관계없이 메모리 사용량이 일정합니다.
+     * @param status ReservationStatus
+     * @param format ExportFormat
+     * @param outputStream 응답 스트림
+     * @throws IOException 응답 스트림 쓰기 실패
      */
-    public boolean isReservationTimeOverlapping(Reservation reservation){
-        List<Reservation> reservations = findReservationByDate(reservation.getReservationDate());
-
-        //예약 신청한 날짜,시간과 겹치는 예약이 있다면 true 반환
-        if(!reservations.isEmpty()){
-            for(Reservation checkReservation : reservations){
+    public void exportReservationsByStatus(ReservationStatus status, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        RowExportWriter<ReservationReadDto> writer =
+                new RowExportWriter<>(format, ReservationReadDto.class, objectMapper, outputStream);
+
+        try (Stream<Reservation> reservations = reservationRepository.streamByStatus(status)) {
+            reservations.forEach(reservation -> {
+                writer.write(ReservationReadDto.fromEntity(reservation));
+                entityManager.detach(reservation);
+                entityManager.detach(reservation.getStudent());
+            });
+        }
+        writer.finish();
+    }
 
-                //예약 수정 시 발생하는 오류 수정
-                if(checkReservation.getId().equals(reservation.getId())){
-                    continue;
-                }
+    private static LocalDate latest(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
 
-                //거절 상태의 예약은 중복 처리 안함
-                if(checkReservation.getStatus().equals(ReservationStatus.CANCELLED)){
-                    continue;
-                }
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
 
-                if(reservation.getStartTime().equals(checkReservation.getStartTime()) &&
-                        reservation.getEndTime().equals(checkReservation.getEndTime())){
-                    return true;
-                }
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
 
-                if (isBetweenInclusive(reservation.getStartTime(),checkReservation.getStartTime(),checkReservation.getEndTime())
-                        ||  isBetweenInclusive(reservation.getEndTime(), checkReservation.getStartTime(), checkReservation.getEndTime())) {
-                    return true;
-                }
+    /**
+     * 입력받은 reservation을 기반으로 겹치는 시간대의 reservation이 있는지 검사
+     * @param reservation Reservation
+     * @return 겹치는 시간대의 reservation이 없다면 False, 있다면 true
+     */
+    public boolean isReservationTimeOverlapping(Reservation reservation){
+        return isTimeOverlapping(reservation.getRoomId(), reservation.getReservationDate(),
+                reservation.getStartTime(), reservation.getEndTime(), reservation.getId());
+    }
 
-                if(isBetweenInclusive(checkReservation.getStartTime(), reservation.getStartTime(), reservation.getEndTime())
-                        || isBetweenInclusive(checkReservation.getEndTime(), reservation.getStartTime(), reservation.getEndTime())){
-                    return true;
-                }
-            }
-        }
-        return false;
+    /**
+     * 해당 공간, 날짜에 주어진 시간대와 겹치는 reservation이 있는지 DB의 인덱스 존재 확인 쿼리 한 번으로 검사합니다.
+     * 인메모리 인덱스(ReservationIntervalIndex)는 다른 서버 인스턴스의 변경을 늦게 반영하므로 여기서는 사용하지 않습니다.
+     * 시간대는 [startTime, endTime) 구간으로 보므로 경계가 맞닿는 예약(10:00~12:00, 12:00~13:00)은 겹치지 않습니다.
+     * 기존 DateTimeUtil.isBetweenInclusive(LocalTime) 검사도 경계를 제외했으므로 맞닿는 예약은 이전과 같이 허용됩니다.
+     * @param excludeId 검사에서 제외할 reservationId (수정 시 자기 자신), 없으면 null
+     * @return 겹치는 시간대의 reservation이 없다면 False, 있다면 true
+     */
+    private boolean isTimeOverlapping(Long roomId, LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeId){
+        return reservationRepository.existsOverlapping(roomId, date, startTime, endTime, excludeId);
     }
 
 
@@ -341,9 +513,18 @@ public class ReservationService {
      * @throws AuthCodeMismatchException "AUTH CODE MISMATCH"
      */
     public void verifyAuthCode(Long reservationId, String authCode){
-        Reservation reservation = findReservationById(reservationId);
+        verifyAuthCodeHash(findReservationById(reservationId).getAuthCode(), authCode);
+    }
 
-        if(!passwordEncoder.matches(authCode, reservation.getAuthCode())){
+    /**
+     * 이미 조회한 authCode hash와 입력받은 authCode가 일치하는지 검사합니다.
+     * BCrypt 연산은 AuthCodeHasher의 전용 스레드에서 수행되므로 트랜잭션 밖에서 호출해야 합니다.
+     * @param hashedCode 저장된 authCode hash
+     * @param authCode String
+     * @throws AuthCodeMismatchException "AUTH CODE MISMATCH"
+     */
+    private void verifyAuthCodeHash(String hashedCode, String authCode){
+        if(!authCodeHasher.matches(authCode, hashedCode)){
             throw new AuthCodeMismatchException();
         }
     }
@@ -356,55 +537,67 @@ public class ReservationService {
      */
     @Transactional
     public ReservationReadDto updateReservationStatus(ReservationStatusUpdateDto updateDto) {
-        Reservation reservation = findReservationById(updateDto.reservationId());
+        Reservation reservation = findReservationByIdForUpdate(updateDto.reservationId());
 
         reservation.updateStatus(updateDto.reservationStatus());
+        eventPublisher.publishEvent(ReservationChangedEvent.fromEntity(reservation));
 
         return ReservationReadDto.fromEntity(reservation);
     }
 
     /**
      * list형태로 받은 reservation들의 status를 승인 상태로 변경합니다.
+     * 건수와 관계없이 UPDATE 한 번과 결과 조회 한 번으로 처리합니다.
      * @param ids List<Long>
      * @return 변경된 reservation의 readDtoList
+     * @throws ReservationNotFoundException "RESERVATION_NOT_FOUND"
      */
     @Transactional
     public List<ReservationReadDto> updateReservationListStatus(List<Long> ids) {
-
-        List<Reservation> reservations = new ArrayList<>();
-
-        for (Long id : ids) {
-            Reservation reservation = findReservationById(id);
-            reservation.updateStatus(ReservationStatus.APPROVED);
-            reservations.add(reservation);
+        List<Long> reservationIds = ids.stream().distinct().toList();
+        if (reservationIds.isEmpty()) {
+            return List.of();
         }
 
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+        int updatedCount = reservationRepository.updateStatusByIdIn(
+                reservationIds, ReservationStatus.APPROVED, LocalDateTime.now());
+
+        return publishBulkChanged(reservationIds, updatedCount);
     }
 
     /**
      * list형태로 받은 reservation들의 status를 거절 상태로 변경합니다.
+     * 건수와 관계없이 UPDATE 한 번과 결과 조회 한 번으로 처리합니다.
      * @param cancelDto ReservationCancelDto
      * @return 변경된 reservation의 readDtoList
+     * @throws ReservationNotFoundException "RESERVATION_NOT_FOUND"
      */
     @Transactional
     public List<ReservationReadDto> cancelReservationList(ReservationCancelDto cancelDto) {
+        List<Long> reservationIds = cancelDto.reservationIds().stream().distinct().toList();
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
 
-        List<Reservation> reservations = new ArrayList<>();
+        int updatedCount = reservationRepository.cancelByIdIn(
+                reservationIds, cancelDto.cancelledReason(), LocalDateTime.now());
 
-        for (Long id : cancelDto.reservationIds()) {
-            Reservation reservation = findReservationById(id);
-            reservation.cancelReservation(ReservationStatus.CANCELLED, cancelDto.cancelledReason());
-            reservations.add(reservation);
+        return publishBulkChanged(reservationIds, updatedCount);
+    }
+
+    /**
+     * 일괄 변경된 reservation들을 조회하여 변경 이벤트를 발행합니다.
+     * 존재하지 않는 id가 섞여 있었다면 예외를 던져 전체 변경을 롤백합니다.
+     */
+    private List<ReservationReadDto> publishBulkChanged(List<Long> reservationIds, int updatedCount) {
+        if (updatedCount != reservationIds.size()) {
+            throw new ReservationNotFoundException();
         }
 
-        // Reservation -> ReservationReadDto 변환
-        return reservations.stream()
-                .map(ReservationReadDto::fromEntity)
-                .collect(Collectors.toList());
+        List<ReservationReadDto> reservations = reservationRepository.findReadDtosByIdIn(reservationIds);
+        reservations.forEach(reservation -> eventPublisher.publishEvent(ReservationChangedEvent.fromReadDto(reservation)));
+
+        return reservations;
     }
 
 //    /**
@@ -423,13 +616,19 @@ public class ReservationService {
 
     /**
      * ReservationAuthCodeUpdateDto를 기반으로 reservation을 수정합니다.
+     * 해싱은 트랜잭션 밖에서 하고, 이후 짧은 트랜잭션에서 행을 locking read로 다시 읽어 인증번호만 바꿉니다.
      * @param updateDto ReservationAuthCodeUpdateDto
      * @return 바뀐 Reservation의 ReadDto
      * @throws ReservationNotFoundException "RESERVATION_NOT_FOUND"
+     * @throws AuthCodeBadRequestException "AUTHENTICATION_CODE_MUST_BE_4_DIGITS"
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReservationReadDto updateAuthCode(ReservationAuthCodeUpdateDto updateDto) {
-        Reservation reservation = findReservationById(updateDto.reservationId());
+        Long reservationId = updateDto.reservationId();
+        //없는 예약이라면 해싱 전에 거절
+        if (!reservationRepository.existsById(reservationId)) {
+            throw new ReservationNotFoundException();
+        }
 
         String authCode = updateDto.newAuthCode();
         //인증번호 길이가 4자리 숫자가 아니라면 예외처리
@@ -437,11 +636,15 @@ public class ReservationService {
             throw new AuthCodeBadRequestException();
         }
 
-        String hashedCode = passwordEncoder.encode(authCode); // 인증번호 해싱
+        String hashedCode = authCodeHasher.encode(authCode); // 인증번호 해싱 (트랜잭션 밖)
 
-        reservation.updateAuthCode(hashedCode);
+        return transactionTemplate.execute(status -> {
+            Reservation reservation = findReservationByIdForUpdate(reservationId);
+            reservation.updateAuthCode(hashedCode);
+            eventPublisher.publishEvent(ReservationChangedEvent.fromEntity(reservation));
 
-        return ReservationReadDto.fromEntity(reservation);
+            return ReservationReadDto.fromEntity(reservation);
+        });
     }
 
 
@@ -449,26 +652,41 @@ public class ReservationService {
 
     /**
      * ReservationUpdateDto를 기반으로 reservation을 수정합니다.
+     * 인증번호는 트랜잭션 밖에서 미리 읽은 hash로 검증하고, 변경은 lock과 트랜잭션 안에서 다시 읽은 entity에 적용합니다.
      *
      * @param updateDto ReservationUpdateDto
      * @throws ReservationNotFoundException   "RESERVATION_NOT_FOUND"
      * @throws AuthCodeMismatchException      "AUTH CODE MISMATCH"
      * @throws ReservationDuplicatedException "RESERVATION_DUPLICATED"
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReservationReadDto updateReservation(ReservationUpdateDto updateDto){
-        Reservation reservation = findReservationById(updateDto.reservationId());
-        verifyAuthCode(updateDto.reservationId(), updateDto.authCode());
+        Long reservationId = updateDto.reservationId();
+        Reservation verified = findReservationById(reservationId);
+        String verifiedHash = verified.getAuthCode();
 
-        reservation.updateReservation(updateDto);
+        //BCrypt 검증은 lock과 트랜잭션을 잡기 전에 수행
+        verifyAuthCodeHash(verifiedHash, updateDto.authCode());
 
-        //겹치는 시간이 있다면 예외 처리
-        if(isReservationTimeOverlapping(reservation)){
-            System.out.println("중복 처리 있음");
-            throw new ReservationDuplicatedException();
-        }
+        //예약 날짜와 공간은 수정되지 않으므로 미리 읽은 값으로 lock을 잡음
+        Long roomId = verified.getRoomId();
+        LocalDate reservationDate = verified.getReservationDate();
+        return reservationDateLockManager.executeLocked(roomId, reservationDate, status -> {
+            reservationRepository.lockByReservationDate(roomId, reservationDate);
 
-        return ReservationReadDto.fromEntity(reservation);
+            //검증 이후 커밋된 승인/거절, 인증번호 변경을 덮어쓰지 않도록 다시 읽은 영속 entity를 수정
+            Reservation reservation = findVerifiedReservationForUpdate(reservationId, verifiedHash);
+
+            //겹치는 시간이 있다면 예외 처리 (자기 자신은 제외)
+            if(isTimeOverlapping(roomId, reservationDate, updateDto.startTime(), updateDto.endTime(), reservationId)){
+                throw new ReservationDuplicatedException();
+            }
+
+            reservation.updateReservation(updateDto);
+            eventPublisher.publishEvent(ReservationChangedEvent.fromEntity(reservation));
+
+            return ReservationReadDto.fromEntity(reservation);
+        });
     }
 
     /**
@@ -477,20 +695,28 @@ public class ReservationService {
      * @throws ReservationNotFoundException "RESERVATION_NOT_FOUND"
      * @throws AuthCodeMismatchException "AUTH CODE MISMATCH"
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteReservation(ReservationDeleteDto reservationDeleteDto){
-        Reservation reservation = findReservationById(reservationDeleteDto.reservationId());
+        Long reservationId = reservationDeleteDto.reservationId();
+        String verifiedHash = findReservationById(reservationId).getAuthCode();
 
-        verifyAuthCode(reservationDeleteDto.reservationId(), reservationDeleteDto.authCode());
+        //BCrypt 검증 후 짧은 트랜잭션에서 다시 읽은 entity를 삭제
+        verifyAuthCodeHash(verifiedHash, reservationDeleteDto.authCode());
 
-        reservationRepository.delete(reservation);
+        transactionTemplate.executeWithoutResult(status -> {
+            Reservation reservation = findVerifiedReservationForUpdate(reservationId, verifiedHash);
+
+            reservationRepository.delete(reservation);
+            eventPublisher.publishEvent(ReservationChangedEvent.deletedFrom(reservation));
+        });
     }
 
     @Transactional
     public void deleteReservation(Long reservationId){
-        Reservation reservation = findReservationById(reservationId);
+        Reservation reservation = findReservationByIdForUpdate(reservationId);
 
         reservationRepository.delete(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.deletedFrom(reservation));
     }
 
 }
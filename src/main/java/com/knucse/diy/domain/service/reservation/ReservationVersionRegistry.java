@@ -0,0 +1,64 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공간(room), 날짜별 reservation 변경 버전을 관리합니다.
+ * 변경이 있을 때마다 전역 증가 번호를 해당 공간의 날짜에 기록하므로, 날짜 범위의 버전은 범위 안의 최댓값이 됩니다.
+ * 공간마다 별도의 map을 두어 한 공간의 변경이 다른 공간의 ETag를 바꾸지 않습니다.
+ * 서버가 재시작되면 번호가 초기화되므로 ETag에는 기동 시각도 함께 넣습니다.
+ * 다른 서버 인스턴스의 변경은 번호를 올리지 않으므로, ETag에 ttl-ms 단위의 시간 구간도 넣어
+ * 같은 ETag로 304를 받는 기간을 ttl-ms 이내로 제한합니다.
+ */
+@Component
+public class ReservationVersionRegistry {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ConcurrentMap<Long, ConcurrentNavigableMap<LocalDate, Long>> versionsByRoom = new ConcurrentHashMap<>();
+
+    private final long ttlMillis;
+
+    public ReservationVersionRegistry(@Value("${reservation.cache.ttl-ms:60000}") long ttlMillis) {
+        this.ttlMillis = Math.max(1, ttlMillis);
+    }
+
+    /**
+     * 해당 공간의 startDate와 endDate 사이(양 끝 포함) 예약 목록의 ETag를 반환합니다.
+     * 조회 쿼리보다 먼저 계산해야, 조회 도중 커밋된 변경이 다음 요청에서 놓치지 않고 반영됩니다.
+     * @param roomId Long
+     * @param startDate LocalDate
+     * @param endDate LocalDate
+     * @return 따옴표를 포함한 strong ETag
+     */
+    public String eTag(Long roomId, LocalDate startDate, LocalDate endDate) {
+        long version = 0;
+        ConcurrentNavigableMap<LocalDate, Long> versions = versionsByRoom.get(roomId);
+        if (versions != null && !endDate.isBefore(startDate)) {
+            for (long dateVersion : versions.subMap(startDate, true, endDate, true).values()) {
+                version = Math.max(version, dateVersion);
+            }
+        }
+        long period = System.currentTimeMillis() / ttlMillis;
+        return "\"" + bootId + "-" + roomId + "-" + version + "-" + Long.toString(period, 36) + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        versionsByRoom.computeIfAbsent(event.roomId(), roomId -> new ConcurrentSkipListMap<>())
+                .merge(event.reservationDate(), sequence.incrementAndGet(), Math::max);
+    }
+}
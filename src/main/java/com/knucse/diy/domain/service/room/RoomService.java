@@ -0,0 +1,98 @@
+package com.knucse.diy.domain.service.room;
+
+import com.knucse.diy.api.room.dto.RoomCreateDto;
+import com.knucse.diy.api.room.dto.RoomReadDto;
+import com.knucse.diy.domain.exception.room.RoomDuplicatedException;
+import com.knucse.diy.domain.exception.room.RoomNotFoundException;
+import com.knucse.diy.domain.model.room.Room;
+import com.knucse.diy.domain.persistence.room.RoomRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoomService {
+
+    /**
+     * room을 지정하지 않은 요청이 사용하는 공간. V5 마이그레이션에서 기존 동아리방으로 생성됩니다.
+     */
+    public static final long DEFAULT_ROOM_ID = 1L;
+
+    private final RoomRepository roomRepository;
+
+    //공간은 거의 바뀌지 않으므로 모든 예약/열쇠 요청에서 DB를 거치지 않도록 메모리에 보관
+    private final ConcurrentMap<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        roomRepository.findAll().forEach(room -> rooms.put(room.getId(), room));
+    }
+
+    /**
+     * RoomCreateDto를 기반으로 room을 생성합니다.
+     * @param createDto RoomCreateDto
+     * @return 생성된 room의 ReadDto
+     * @throws RoomDuplicatedException "ROOM_DUPLICATED"
+     */
+    @Transactional
+    public RoomReadDto createRoom(RoomCreateDto createDto) {
+        if (roomRepository.existsByName(createDto.name())) {
+            throw new RoomDuplicatedException();
+        }
+
+        //메모리에는 커밋 이후 처음 조회될 때 반영됨
+        return RoomReadDto.fromEntity(roomRepository.save(createDto.toEntity()));
+    }
+
+    /**
+     * 모든 room을 id 순으로 조회합니다.
+     * @return RoomReadDto List
+     */
+    public List<RoomReadDto> findAllRooms() {
+        return roomRepository.findAll().stream()
+                .sorted(Comparator.comparing(Room::getId))
+                .map(RoomReadDto::fromEntity)
+                .toList();
+    }
+
+    /**
+     * roomId를 기반으로 room을 조회합니다. roomId가 없다면 기본 공간(DEFAULT_ROOM_ID)을 반환합니다.
+     * @param roomId Long, 없으면 null
+     * @return 조회된 room
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Room findRoomById(Long roomId) {
+        long id = roomId != null ? roomId : DEFAULT_ROOM_ID;
+
+        Room cached = rooms.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        Room room = roomRepository.findById(id)
+                .orElseThrow(RoomNotFoundException::new);
+        rooms.put(id, room);
+        return room;
+    }
+
+    /**
+     * roomId를 검증하고, 없다면 기본 공간의 id를 반환합니다.
+     * @param roomId Long, 없으면 null
+     * @return 존재하는 roomId
+     * @throws RoomNotFoundException "ROOM_NOT_FOUND"
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long resolveRoomId(Long roomId) {
+        return findRoomById(roomId).getId();
+    }
+}
@@ -0,0 +1,211 @@
+package com.knucse.diy.domain.service.student;
+
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 학생 테이블 전체를 메모리에 올려두고 학번/이름 조회를 DB 없이 처리하는 디렉터리입니다.
+ * 기동 시 전체를 적재하고 주기적으로 다시 적재합니다. JPA로 저장/수정/삭제한 학생은 StudentDirectoryListener가 커밋 후 반영하고,
+ * DB에 직접 추가된 학생은 조회 실패 시 DB에서 찾아 반영합니다.
+ * DB에도 없는 조회는 짧은 시간 동안 negative cache에 기록하여 반복 조회가 DB까지 가지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class StudentDirectory {
+
+    private final StudentRepository studentRepository;
+
+    private final long negativeTtlMillis;
+
+    private final int negativeCapacity;
+
+    //갱신 시 통째로 교체되는 불변 스냅샷
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final Map<String, Long> negativeEntries;
+
+    public StudentDirectory(
+            StudentRepository studentRepository,
+            @Value("${student.directory.negative-ttl-seconds:60}") long negativeTtlSeconds,
+            @Value("${student.directory.negative-capacity:1024}") int negativeCapacity
+    ) {
+        this.studentRepository = studentRepository;
+        this.negativeTtlMillis = negativeTtlSeconds * 1000;
+        this.negativeCapacity = negativeCapacity;
+        this.negativeEntries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > StudentDirectory.this.negativeCapacity;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 학생 테이블 전체를 다시 적재하고 negative cache를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${student.directory.refresh-interval-ms:600000}",
+            initialDelayString = "${student.directory.refresh-interval-ms:600000}")
+    public void refresh() {
+        List<Student> students = studentRepository.findAll();
+
+        synchronized (this) {
+            snapshot = Snapshot.of(students);
+            negativeEntries.clear();
+        }
+        log.info("Student directory loaded: {} students", students.size());
+    }
+
+    public Optional<Student> findByNameAndNumber(String studentName, String studentNumber) {
+        return find("nn:" + studentNumber + "|" + studentName,
+                () -> snapshot.byKey().get(new StudentKey(studentNumber, studentName)),
+                () -> studentRepository.findByStudentNameAndStudentNumber(studentName, studentNumber));
+    }
+
+    public Optional<Student> findByStudentNumber(String studentNumber) {
+        return find("n:" + studentNumber,
+                () -> snapshot.byNumber().get(studentNumber),
+                () -> studentRepository.findByStudentNumber(studentNumber));
+    }
+
+    /**
+     * 이름으로 학생을 조회합니다. 동명이인이 있다면 DB 조회 결과를 그대로 따릅니다.
+     */
+    public Optional<Student> findByStudentName(String studentName) {
+        List<Student> students = snapshot.byName().get(studentName);
+        if (students != null && students.size() > 1) {
+            return studentRepository.findByStudentName(studentName);
+        }
+        return find("m:" + studentName,
+                () -> students == null ? null : students.get(0),
+                () -> studentRepository.findByStudentName(studentName));
+    }
+
+    private Optional<Student> find(String negativeKey, Supplier<Student> cached, Supplier<Optional<Student>> loader) {
+        Student student = cached.get();
+        if (student != null) {
+            return Optional.of(student);
+        }
+
+        if (isKnownMissing(negativeKey)) {
+            return Optional.empty();
+        }
+
+        Optional<Student> loaded = loader.get();
+        if (loaded.isPresent()) {
+            addAfterCommit(loaded.get());
+        } else {
+            markMissing(negativeKey);
+        }
+        return loaded;
+    }
+
+    private synchronized boolean isKnownMissing(String negativeKey) {
+        Long expiresAt = negativeEntries.get(negativeKey);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            negativeEntries.remove(negativeKey);
+            return false;
+        }
+        return true;
+    }
+
+    private synchronized void markMissing(String negativeKey) {
+        negativeEntries.put(negativeKey, System.currentTimeMillis() + negativeTtlMillis);
+    }
+
+    /**
+     * 조회/저장한 트랜잭션이 롤백될 수 있으므로(예: 같은 트랜잭션에서 저장한 학생) 커밋된 이후에만 디렉터리에 반영합니다.
+     */
+    void addAfterCommit(Student student) {
+        afterCommit(() -> add(student));
+    }
+
+    /**
+     * 삭제한 트랜잭션이 커밋된 이후에 디렉터리에서 제거합니다.
+     */
+    void removeAfterCommit(Student student) {
+        afterCommit(() -> remove(student.getId()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private synchronized void add(Student student) {
+        List<Student> students = new ArrayList<>(snapshot.byKey().values());
+        students.removeIf(existing -> existing.getId().equals(student.getId()));
+        students.add(student);
+        snapshot = Snapshot.of(students);
+
+        //없다고 기록해 둔 조회가 새 학생을 가리지 않도록 함
+        negativeEntries.remove("nn:" + student.getStudentNumber() + "|" + student.getStudentName());
+        negativeEntries.remove("n:" + student.getStudentNumber());
+        negativeEntries.remove("m:" + student.getStudentName());
+    }
+
+    private synchronized void remove(Long studentId) {
+        List<Student> students = new ArrayList<>(snapshot.byKey().values());
+        if (students.removeIf(existing -> existing.getId().equals(studentId))) {
+            snapshot = Snapshot.of(students);
+        }
+    }
+
+    private record StudentKey(String studentNumber, String studentName) {
+    }
+
+    private record Snapshot(
+            Map<StudentKey, Student> byKey,
+            Map<String, Student> byNumber,
+            Map<String, List<Student>> byName
+    ) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of());
+
+        static Snapshot of(List<Student> students) {
+            Map<StudentKey, Student> byKey = new HashMap<>();
+            Map<String, Student> byNumber = new HashMap<>();
+            Map<String, List<Student>> byName = new HashMap<>();
+
+            for (Student student : students) {
+                byKey.put(new StudentKey(student.getStudentNumber(), student.getStudentName()), student);
+                byNumber.put(student.getStudentNumber(), student);
+                if (student.getStudentName() != null) {
+                    byName.computeIfAbsent(student.getStudentName(), name -> new ArrayList<>()).add(student);
+                }
+            }
+            byName.replaceAll((name, list) -> List.copyOf(list));
+
+            return new Snapshot(Map.copyOf(byKey), Map.copyOf(byNumber), Map.copyOf(byName));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.knucse.diy.domain.service.student;
+
+import com.knucse.diy.domain.model.student.Student;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA로 저장/수정/삭제한 Student를 트랜잭션 커밋 후 StudentDirectory에 반영합니다.
+ * Hibernate가 Spring bean으로 생성하며, StudentDirectory가 EntityManagerFactory에 의존하므로 ObjectProvider로 늦게 가져옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentDirectoryListener {
+
+    private final ObjectProvider<StudentDirectory> studentDirectory;
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Student student) {
+        studentDirectory.getObject().addAfterCommit(student);
+    }
+
+    @PostRemove
+    void onRemove(Student student) {
+        studentDirectory.getObject().removeAfterCommit(student);
+    }
+}
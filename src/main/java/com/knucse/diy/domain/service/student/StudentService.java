@@ -6,6 +6,7 @@ import com.knucse.diy.domain.exception.student.StudentNotFoundException;
 import com.knucse.diy.domain.model.student.Student;
 import com.knucse.diy.domain.persistence.student.StudentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 
@@ -16,17 +17,20 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class StudentService {
     private final StudentRepository studentRepository;
+    private final StudentDirectory studentDirectory;
 
     /**
      * 학생 이름과 학번을 통해 학생을 조회합니다.
+     * 인메모리 StudentDirectory에서 조회하므로 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않습니다.
      *
      * @param studentName 학생 이름
      * @param studentNumber 학생 학번
      * @return 해당 이름과 학번을 가진 학생 엔티티
      * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Student findStudentByNameAndNumber(String studentName, String studentNumber) {
-        return studentRepository.findByStudentNameAndStudentNumber(studentName, studentNumber)
+        return studentDirectory.findByNameAndNumber(studentName, studentNumber)
                 .orElseThrow(StudentNotFoundException::new);
     }
 
@@ -37,8 +41,9 @@ public class StudentService {
      * @return 해당 학번을 가진 학생 엔티티
      * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Student findStudentByStudentNumber(String studentNumber) {
-        return studentRepository.findByStudentNumber(studentNumber)
+        return studentDirectory.findByStudentNumber(studentNumber)
                 .orElseThrow(StudentNotFoundException::new);
     }
 
@@ -49,12 +54,13 @@ public class StudentService {
      * @return 해당 이름을 가진 학생 엔티티
      * @throws StudentNotFoundException "STUDENT_NOT_FOUND"
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Student findStudentByStudentName(String studentName) {
-        return studentRepository.findByStudentName(studentName)
+        return studentDirectory.findByStudentName(studentName)
                 .orElseThrow(StudentNotFoundException::new);
     }
 
     public List<Student> findAllStudents() {
         return studentRepository.findAll();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+-- ddl-auto로 만들어진 DB의 unique 제약 이름(Hibernate 해시 이름)을 V1과 같은 이름으로 맞춥니다.
+-- 이름 대신 컬럼으로 unique 인덱스를 찾으므로, V1로 만든 새 DB에서는 아무것도 바꾸지 않습니다.
+
+-- student(student_number)
+set @current_name = (
+    select index_name from information_schema.statistics
+    where table_schema = database()
+      and table_name = 'student'
+      and non_unique = 0
+    group by index_name
+    having count(*) = 1 and max(column_name) = 'student_number'
+    limit 1);
+set @ddl = case
+    when @current_name is null then 'alter table student add constraint uk_student_student_number unique (student_number)'
+    when @current_name = 'uk_student_student_number' then 'do 0'
+    else concat('alter table student rename index `', @current_name, '` to uk_student_student_number')
+end;
+prepare reconcile_unique from @ddl;
+execute reconcile_unique;
+deallocate prepare reconcile_unique;
+
+-- reservation_black_list(student_id)
+set @current_name = (
+    select index_name from information_schema.statistics
+    where table_schema = database()
+      and table_name = 'reservation_black_list'
+      and non_unique = 0
+    group by index_name
+    having count(*) = 1 and max(column_name) = 'student_id'
+    limit 1);
+set @ddl = case
+    when @current_name is null then 'alter table reservation_black_list add constraint uk_reservation_black_list_student unique (student_id)'
+    when @current_name = 'uk_reservation_black_list_student' then 'do 0'
+    else concat('alter table reservation_black_list rename index `', @current_name, '` to uk_reservation_black_list_student')
+end;
+prepare reconcile_unique from @ddl;
+execute reconcile_unique;
+deallocate prepare reconcile_unique;
+
+-- room_key(student_id)
+set @current_name = (
+    select index_name from information_schema.statistics
+    where table_schema = database()
+      and table_name = 'room_key'
+      and non_unique = 0
+    group by index_name
+    having count(*) = 1 and max(column_name) = 'student_id'
+    limit 1);
+set @ddl = case
+    when @current_name is null then 'alter table room_key add constraint uk_room_key_student unique (student_id)'
+    when @current_name = 'uk_room_key_student' then 'do 0'
+    else concat('alter table room_key rename index `', @current_name, '` to uk_room_key_student')
+end;
+prepare reconcile_unique from @ddl;
+execute reconcile_unique;
+deallocate prepare reconcile_unique;
@@ -0,0 +1,69 @@
+-- Flyway 도입 전 엔티티로 ddl-auto: update 가 만들던 스키마 (새 DB용).
+-- 이미 운영 중인 DB에는 baseline-on-migrate 로 V1이 적용된 것으로 기록되고 V1_1부터 실행됩니다.
+-- 운영 DB의 unique/foreign key 제약 이름은 Hibernate가 만든 해시 이름(UK..., FK...)이므로
+-- unique 제약은 V1_1에서 아래와 같은 이름으로 맞춥니다. foreign key 이름은 이후 마이그레이션에서 참조하지 않으므로 그대로 둡니다.
+
+create table admin (
+    admin_id bigint not null auto_increment,
+    password varchar(70) not null,
+    role enum ('ROLE_STUDENT','ROLE_DIY_MANAGER'),
+    username varchar(15) not null,
+    primary key (admin_id)
+) engine=InnoDB;
+
+create table student (
+    student_id bigint not null auto_increment,
+    name varchar(50),
+    role enum ('ROLE_STUDENT','ROLE_DIY_MANAGER'),
+    student_number varchar(15) not null,
+    primary key (student_id),
+    constraint uk_student_student_number unique (student_number)
+) engine=InnoDB;
+
+create table reservation (
+    reservation_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    auth_code varchar(255),
+    cancelled_reason varchar(50),
+    end_time time(6) not null,
+    reason varchar(50) not null,
+    reservation_date date not null,
+    start_time time(6) not null,
+    status enum ('PENDING','APPROVED','CANCELLED') not null,
+    student_id bigint not null,
+    primary key (reservation_id),
+    constraint fk_reservation_student foreign key (student_id) references student (student_id)
+) engine=InnoDB;
+
+create table reservation_black_list (
+    reservation_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    student_id bigint not null,
+    primary key (reservation_id),
+    constraint uk_reservation_black_list_student unique (student_id),
+    constraint fk_reservation_black_list_student foreign key (student_id) references student (student_id)
+) engine=InnoDB;
+
+create table room_key (
+    room_key_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    room_key_status enum ('KEEPING','NOT_RETURNED','USING') not null,
+    student_id bigint,
+    primary key (room_key_id),
+    constraint uk_room_key_student unique (student_id),
+    constraint fk_room_key_student foreign key (student_id) references student (student_id)
+) engine=InnoDB;
+
+create table room_key_history (
+    history_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    datetime datetime(6),
+    room_key_status enum ('KEEPING','NOT_RETURNED','USING') not null,
+    student_name varchar(255),
+    student_number varchar(255),
+    primary key (history_id)
+) engine=InnoDB;
@@ -0,0 +1,20 @@
+-- repository finder들이 거르거나 정렬하는 컬럼에 대한 인덱스.
+-- InnoDB 보조 인덱스는 끝에 PK(reservation_id)를 포함하므로 (..., reservation_id) 정렬까지 인덱스로 처리됩니다.
+
+-- findByStudentAndReservationDate, findUpcomingReservations
+-- V1의 fk_reservation_student는 만들어질 때 student_id 인덱스를 따로 만들었습니다.
+-- MySQL은 그 FK 인덱스를 이 인덱스로 대체하지 않고 그대로 두므로, 이 인덱스는 FK 인덱스와 별개로 추가됩니다.
+create index idx_reservation_student_date
+    on reservation (student_id, reservation_date);
+
+-- findByStatus (날짜, 시작 시간 순 정렬 포함)
+create index idx_reservation_status
+    on reservation (status, reservation_date, start_time);
+
+-- findClosestReservations
+create index idx_reservation_date_start
+    on reservation (reservation_date, start_time);
+
+-- 열쇠 히스토리 기간 조회 (RoomKeyHistoryRepository.findPage, 필터 없음)
+create index idx_room_key_history_datetime
+    on room_key_history (datetime);
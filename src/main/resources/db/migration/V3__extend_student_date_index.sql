@@ -0,0 +1,7 @@
+-- 학생별 예약 목록의 keyset pagination(ORDER BY reservation_date, start_time, reservation_id)을 정렬 없이 처리하도록
+-- (student_id, reservation_date) 인덱스에 start_time을 더합니다.
+-- student_id FK가 사용할 인덱스가 항상 남아 있도록 새 인덱스를 먼저 만들고 기존 인덱스를 지웁니다.
+create index idx_reservation_student_date_start
+    on reservation (student_id, reservation_date, start_time);
+
+drop index idx_reservation_student_date on reservation;
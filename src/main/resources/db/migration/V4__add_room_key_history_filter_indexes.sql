@@ -0,0 +1,6 @@
+-- 열쇠 히스토리 조회의 학생/상태 필터용 인덱스. 둘 다 datetime 역순 keyset 조회를 인덱스 순서대로 처리합니다.
+create index idx_room_key_history_student_datetime
+    on room_key_history (student_number, datetime);
+
+create index idx_room_key_history_status_datetime
+    on room_key_history (room_key_status, datetime);
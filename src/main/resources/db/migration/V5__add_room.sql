@@ -0,0 +1,77 @@
+-- 한 서버에서 여러 공간(room)을 운영하기 위해 예약, 열쇠, 열쇠 히스토리에 room_id를 추가합니다.
+-- 기존 데이터는 모두 기본 공간(room_id = 1)에 속합니다.
+create table room (
+    room_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    name varchar(50) not null,
+    primary key (room_id),
+    constraint uk_room_name unique (name)
+) engine=InnoDB;
+
+insert into room (room_id, created_at, updated_at, name) values (1, now(6), now(6), 'DIY');
+
+-- reservation: 겹침 검사, 날짜 lock, 날짜/범위 조회가 모두 한 공간 안에서 일어나므로 room_id를 인덱스 맨 앞에 둡니다.
+-- 다른 공간의 예약은 다른 인덱스 범위에 있어 next-key lock도 서로 겹치지 않습니다.
+alter table reservation add column room_id bigint not null default 1;
+alter table reservation alter column room_id drop default;
+
+-- existsOverlapping, lockByReservationDate, findByRoomAndReservationDate
+create index idx_reservation_room_date_status_time
+    on reservation (room_id, reservation_date, status, start_time, end_time);
+
+-- findClosestReservations, findReservationsWithinDateRange
+create index idx_reservation_room_date_start
+    on reservation (room_id, reservation_date, start_time);
+
+alter table reservation
+    add constraint fk_reservation_room foreign key (room_id) references room (room_id);
+
+-- (reservation_date, status, start_time, end_time) 인덱스는 ddl-auto 시절 엔티티의 @Index로 만들어져
+-- baseline 처리된 DB에 따라 없을 수 있으므로, 있을 때만 지웁니다.
+set @ddl = if(exists(select 1 from information_schema.statistics
+                     where table_schema = database()
+                       and table_name = 'reservation'
+                       and index_name = 'idx_reservation_date_status_time'),
+              'drop index idx_reservation_date_status_time on reservation',
+              'do 0');
+prepare drop_reservation_date_status_time from @ddl;
+execute drop_reservation_date_status_time;
+deallocate prepare drop_reservation_date_status_time;
+
+drop index idx_reservation_date_start on reservation;
+
+-- room_key: 공간마다 열쇠를 둡니다. 반납 후에도 holder가 마지막 사용자로 남으므로,
+-- 한 학생이 여러 공간의 열쇠를 차례로 빌릴 수 있도록 student_id unique 제약을 일반 인덱스로 바꿉니다.
+alter table room_key add column room_id bigint not null default 1;
+alter table room_key alter column room_id drop default;
+
+create index idx_room_key_room on room_key (room_id);
+alter table room_key
+    add constraint fk_room_key_room foreign key (room_id) references room (room_id);
+
+create index idx_room_key_student on room_key (student_id);
+
+-- ddl-auto로 만들어진 DB에서는 unique 제약 이름이 Hibernate가 만든 해시 이름(UK...)이었으므로,
+-- 이름에 기대지 않고 room_key(student_id) 한 컬럼에 걸린 unique 인덱스를 찾아 지웁니다.
+set @room_key_student_unique = (
+    select index_name from information_schema.statistics
+    where table_schema = database()
+      and table_name = 'room_key'
+      and non_unique = 0
+    group by index_name
+    having count(*) = 1 and max(column_name) = 'student_id'
+    limit 1);
+set @ddl = if(@room_key_student_unique is null,
+              'do 0',
+              concat('drop index `', @room_key_student_unique, '` on room_key'));
+prepare drop_room_key_student_unique from @ddl;
+execute drop_room_key_student_unique;
+deallocate prepare drop_room_key_student_unique;
+
+-- room_key_history: 공간별 히스토리 조회용
+alter table room_key_history add column room_id bigint not null default 1;
+alter table room_key_history alter column room_id drop default;
+
+create index idx_room_key_history_room_datetime
+    on room_key_history (room_id, datetime);
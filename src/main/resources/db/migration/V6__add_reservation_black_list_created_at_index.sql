@@ -0,0 +1,3 @@
+-- ReservationBlackListSweeper의 만료 항목 chunk 삭제(created_at < ? ORDER BY reservation_id LIMIT ?)용
+create index idx_reservation_black_list_created_at
+    on reservation_black_list (created_at);
@@ -0,0 +1,105 @@
+package com.knucse.diy.authentication.filter;
+
+import com.knucse.diy.authentication.principal.AdminPrincipal;
+import com.knucse.diy.authentication.principal.AdminPrincipalRegistry;
+import com.knucse.diy.common.util.jwt.JWTUtil;
+import com.knucse.diy.domain.model.admin.Admin;
+import com.knucse.diy.domain.model.admin.AdminDetails;
+import com.knucse.diy.domain.model.student.Role;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JWTFilter가 인증된 요청마다 만드는 principal/인증 객체의 할당량을 이전 방식(Admin + AdminDetails + 새 인증 토큰)과 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class JWTFilterAllocationBenchmark {
+
+    private static final int WARM_UP = 20_000;
+
+    private static final int ITERATIONS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final JWTUtil jwtUtil = new JWTUtil("benchmark-secret-key-for-jwt-filter-at-least-256-bits", 1024);
+
+    private final AdminPrincipalRegistry adminPrincipalRegistry = new AdminPrincipalRegistry();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void allocationPerRequest() throws Exception {
+        double legacy = bytesPerOperation(this::legacyAuthentication);
+        double interned = bytesPerOperation(this::internedAuthentication);
+
+        //필터 전체 (cache된 JWT 검증 + principal + SecurityContext 등록)
+        String token = jwtUtil.createJwt("admin", Role.ROLE_DIY_MANAGER.name(), 60_000L);
+        JWTFilter filter = new JWTFilter(jwtUtil, adminPrincipalRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/reservation");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> { };
+        double filterBytes = bytesPerOperation(() -> {
+            try {
+                filter.doFilter(request, response, chain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        System.out.printf("%-34s %12s%n", "path", "bytes/request");
+        System.out.printf("%-34s %12.1f%n", "principal (Admin + AdminDetails)", legacy);
+        System.out.printf("%-34s %12.1f%n", "principal (interned)", interned);
+        System.out.printf("%-34s %12.1f%n", "JWTFilter.doFilter", filterBytes);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertSame(adminPrincipalRegistry.get("admin", Role.ROLE_DIY_MANAGER).getAuthentication(), authentication);
+        assertTrue(interned < legacy);
+    }
+
+    private void legacyAuthentication() {
+        Admin admin = Admin.builder()
+                .username("admin")
+                .role(Role.ROLE_DIY_MANAGER)
+                .password("temp")
+                .build();
+        AdminDetails adminDetails = new AdminDetails(admin);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(adminDetails, null, adminDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private void internedAuthentication() {
+        AdminPrincipal principal = adminPrincipalRegistry.get("admin", Role.ROLE_DIY_MANAGER);
+        SecurityContextHolder.getContext().setAuthentication(principal.getAuthentication());
+    }
+
+    private static double bytesPerOperation(Runnable operation) {
+        for (int i = 0; i < WARM_UP; i++) {
+            operation.run();
+        }
+
+        long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long after = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+        return (double) (after - before) / ITERATIONS;
+    }
+}
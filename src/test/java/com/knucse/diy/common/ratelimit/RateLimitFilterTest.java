@@ -0,0 +1,239 @@
+package com.knucse.diy.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void reservationCreate_sameStudentOverCapacity_rejectedWith429() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(100, 60), new RateLimiter(2, 1), new RateLimiter(100, 60), objectMapper, 8192);
+
+        // when
+        MockHttpServletResponse first = send(filter, "POST", "/application/reservation/create", "10.0.0.1", "2025000001");
+        MockHttpServletResponse second = send(filter, "POST", "/application/reservation/create", "10.0.0.2", "2025000001");
+        MockHttpServletResponse third = send(filter, "POST", "/application/reservation/create", "10.0.0.3", "2025000001");
+        MockHttpServletResponse otherStudent = send(filter, "POST", "/application/reservation/create", "10.0.0.3", "2025000002");
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus());
+        assertNotNull(third.getHeader("Retry-After"));
+        assertTrue(third.getContentAsString().contains(RateLimitFilter.TOO_MANY_REQUESTS_CODE));
+        assertEquals(200, otherStudent.getStatus());
+    }
+
+    @Test
+    void roomKeyRent_sameIpOverCapacity_rejectedWith429() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(3, 1), new RateLimiter(100, 60), new RateLimiter(100, 60), objectMapper, 8192);
+
+        // when
+        List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            statuses.add(send(filter, "PATCH", "/application/roomkey/rent", "10.0.0.1", "202500000" + i).getStatus());
+        }
+
+        // then
+        assertEquals(List.of(200, 200, 200, 429), statuses);
+    }
+
+    @Test
+    void encodedPath_stillLimited() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(1, 1), new RateLimiter(100, 60), new RateLimiter(100, 60), objectMapper, 8192);
+
+        // when
+        int first = send(filter, "POST", "/application/reservation/create", "10.0.0.1", "2025000001").getStatus();
+        int encoded = send(filter, "POST", "/application/reservation/cr%65ate", "10.0.0.1", "2025000002").getStatus();
+        int encodedRent = send(filter, "PATCH", "/application/roomkey/r%65nt", "10.0.0.1", "2025000003").getStatus();
+
+        // then
+        assertEquals(200, first);
+        assertEquals(429, encoded);
+        assertEquals(429, encodedRent);
+    }
+
+    @Test
+    void numericStudentNumber_stillLimitedByStudent() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(100, 60), new RateLimiter(1, 1), new RateLimiter(100, 60), objectMapper, 8192);
+
+        // when
+        List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/application/reservation/create");
+            request.setRemoteAddr("10.0.0." + i);
+            request.setContentType("application/json");
+            request.setContent("{\"studentName\":\"학생\",\"studentNumber\":2025000001}".getBytes(StandardCharsets.UTF_8));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            statuses.add(response.getStatus());
+        }
+
+        // then
+        assertEquals(List.of(200, 429), statuses);
+    }
+
+    @Test
+    void passedRequest_bodyCanBeReadAgain() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(10, 60), new RateLimiter(10, 60), new RateLimiter(100, 60), objectMapper, 8192);
+        MockHttpServletRequest request = request("POST", "/application/reservation/create", "10.0.0.1", "2025000001");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(forwardedBody.contains("2025000001"));
+    }
+
+    @Test
+    void chunkedBody_withoutContentLength_stillLimitedByStudent() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(100, 60), new RateLimiter(1, 1), new RateLimiter(100, 60), objectMapper, 8192);
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(chunked(request("POST", "/application/reservation/create", "10.0.0.1", "2025000001")), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(chunked(request("POST", "/application/reservation/create", "10.0.0.2", "2025000001")), second, new MockFilterChain());
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+    }
+
+    @Test
+    void oversizedBody_rejectedWith413() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(100, 60), new RateLimiter(100, 60), objectMapper, 64);
+        MockHttpServletRequest request = request("POST", "/application/reservation/create", "10.0.0.1", "2025000001");
+        request.setContent(("{\"studentNumber\":\"2025000001\",\"reason\":\"" + "a".repeat(100) + "\"}").getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(chunked(request), response, chain);
+
+        // then
+        assertEquals(413, response.getStatus());
+        assertTrue(response.getContentAsString().contains(RateLimitFilter.PAYLOAD_TOO_LARGE_CODE));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void eventSubscribe_sameIpOverCapacity_rejectedWithOwnBucket() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(1, 1), new RateLimiter(100, 60), new RateLimiter(2, 1), objectMapper, 8192);
+
+        // when
+        List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            statuses.add(send(filter, "GET", "/application/events", "10.0.0.1", null).getStatus());
+        }
+        int otherIp = send(filter, "GET", "/application/events", "10.0.0.2", null).getStatus();
+        //구독 bucket을 다 써도 같은 IP의 예약 생성 bucket은 그대로
+        int create = send(filter, "POST", "/application/reservation/create", "10.0.0.1", "2025000001").getStatus();
+
+        // then
+        assertEquals(List.of(200, 200, 429), statuses);
+        assertEquals(200, otherIp);
+        assertEquals(200, create);
+    }
+
+    @Test
+    void otherEndpoint_notLimited() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(new RateLimiter(1, 1), new RateLimiter(1, 1), new RateLimiter(100, 60), objectMapper, 8192);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send(filter, "GET", "/application/reservation/closest", "10.0.0.1", null).getStatus());
+        }
+    }
+
+    @Test
+    void rateLimiter_concurrentRequests_neverExceedCapacity() throws Exception {
+        // given
+        RateLimiter limiter = new RateLimiter(50, 1);
+        int threads = 16;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire("10.0.0.1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(50, allowed.get());
+    }
+
+    private MockHttpServletResponse send(RateLimitFilter filter, String method, String path, String ip, String studentNumber) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, ip, studentNumber), response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * Transfer-Encoding: chunked 요청처럼 Content-Length를 알 수 없는 요청
+     */
+    private HttpServletRequest chunked(MockHttpServletRequest request) {
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+
+    private MockHttpServletRequest request(String method, String path, String ip, String studentNumber) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(ip);
+        if (studentNumber != null) {
+            request.setContentType("application/json");
+            request.setContent(("{\"studentName\":\"학생\",\"studentNumber\":\"" + studentNumber + "\"}").getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package com.knucse.diy.common.util.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowExportWriterTest {
+
+    record Row(Long id, String name, String reason) {
+    }
+
+    @Test
+    void csv_formulaLikeValues_prefixedAndQuoted() throws IOException {
+        // when
+        String csv = writeCsv(
+                new Row(1L, "=HYPERLINK(\"http://evil\")", "+1"),
+                new Row(2L, "@SUM(A1)", "-2"),
+                new Row(-3L, "\tname", "\rreason")
+        );
+
+        // then
+        String[] lines = csv.split("\n");
+        assertEquals("1,\"'=HYPERLINK(\"\"http://evil\"\")\",\"'+1\"", lines[1]);
+        assertEquals("2,\"'@SUM(A1)\",\"'-2\"", lines[2]);
+        assertEquals("-3,\"'\tname\",\"'\rreason\"", lines[3]);
+    }
+
+    @Test
+    void csv_plainValues_escapedOnlyWhenNeeded() throws IOException {
+        // when
+        String csv = writeCsv(new Row(1L, "홍길동", "연습, \"공연\""));
+
+        // then
+        assertEquals("1,홍길동,\"연습, \"\"공연\"\"\"", csv.split("\n")[1]);
+    }
+
+    private static String writeCsv(Row... rows) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        RowExportWriter<Row> writer = new RowExportWriter<>(ExportFormat.CSV, Row.class, new ObjectMapper(), output);
+        for (Row row : rows) {
+            writer.write(row);
+        }
+        writer.finish();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
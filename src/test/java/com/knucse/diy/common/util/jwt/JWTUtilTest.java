@@ -0,0 +1,74 @@
+package com.knucse.diy.common.util.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-must-be-at-least-256-bits";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET, 16);
+
+    @Test
+    void verify_validToken_returnsClaims() {
+        // given
+        String token = jwtUtil.createJwt("admin", "ROLE_DIY_MANAGER", 60_000L);
+
+        // when
+        Optional<JWTClaims> claims = jwtUtil.verify(token);
+
+        // then
+        assertTrue(claims.isPresent());
+        assertEquals("admin", claims.get().username());
+        assertEquals("ROLE_DIY_MANAGER", claims.get().role());
+    }
+
+    @Test
+    void verify_sameToken_returnsCachedClaims() {
+        // given
+        String token = jwtUtil.createJwt("admin", "ROLE_DIY_MANAGER", 60_000L);
+
+        // when
+        JWTClaims first = jwtUtil.verify(token).orElseThrow();
+        JWTClaims second = jwtUtil.verify(token).orElseThrow();
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_tamperedToken_returnsEmpty() {
+        // given
+        String token = jwtUtil.createJwt("admin", "ROLE_DIY_MANAGER", 60_000L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertTrue(jwtUtil.verify(tampered).isEmpty());
+        assertTrue(jwtUtil.verify("not-a-jwt").isEmpty());
+    }
+
+    @Test
+    void verify_otherSecret_returnsEmpty() {
+        // given
+        String token = new JWTUtil(SECRET + "-other", 16).createJwt("admin", "ROLE_DIY_MANAGER", 60_000L);
+
+        // when & then
+        assertTrue(jwtUtil.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_cachedTokenExpires_returnsEmpty() throws InterruptedException {
+        // given
+        String token = jwtUtil.createJwt("admin", "ROLE_DIY_MANAGER", 1_000L);
+        assertTrue(jwtUtil.verify(token).isPresent());
+
+        // when
+        Thread.sleep(1_100);
+
+        // then
+        assertTrue(jwtUtil.verify(token).isEmpty());
+    }
+}
@@ -0,0 +1,171 @@
+package com.knucse.diy.domain.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ddl-auto로 만들어진 뒤 V1에서 baseline 처리되는 기존 운영 DB에서 마이그레이션이 끝까지 적용되고,
+ * 새 DB에 V1부터 적용한 것과 같은 스키마가 되는지 검사합니다.
+ * db/baseline/hibernate_schema.sql 은 Flyway 도입 전 엔티티로 Hibernate가 만든 스키마(해시 제약 이름 포함)입니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BaselinedSchemaMigrationTest {
+
+    //테스트마다 database를 새로 만들기 위해 root로 접속
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    @ParameterizedTest(name = "overlap index created by ddl-auto: {0}")
+    @ValueSource(booleans = {false, true})
+    void migrate_hibernateBaselineSchema_appliesAllVersions(boolean withOverlapIndex) {
+        // given
+        DataSource dataSource = createDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        loadBaselineSchema(dataSource);
+        if (withOverlapIndex) {
+            //Flyway 도입 전 엔티티의 @Index로 ddl-auto가 만든 인덱스
+            jdbcTemplate.execute("""
+                    create index idx_reservation_date_status_time
+                        on reservation (reservation_date, status, start_time, end_time)
+                    """);
+        }
+        jdbcTemplate.update("INSERT INTO student (student_number, name, role) VALUES ('2025000001', '학생', 'ROLE_STUDENT')");
+        Long studentId = jdbcTemplate.queryForObject("SELECT student_id FROM student", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO reservation (student_id, reservation_date, start_time, end_time, reason, status)
+                VALUES (?, '2025-03-14', '10:00', '11:00', 'baseline', 'APPROVED')
+                """, studentId);
+        jdbcTemplate.update("INSERT INTO room_key (student_id, room_key_status) VALUES (?, 'KEEPING')", studentId);
+
+        // when
+        migrate(dataSource);
+
+        // then
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 ORDER BY installed_rank", String.class);
+        assertEquals(List.of("1", "1.1", "2", "3", "4", "5", "6"), versions);
+
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT room_id FROM reservation", Long.class));
+        assertEquals(0, indexCount(jdbcTemplate, "reservation", "idx_reservation_date_status_time"));
+        assertEquals(1, indexCount(jdbcTemplate, "reservation", "idx_reservation_room_date_status_time"));
+
+        //room_key.student_id unique 제약이 Hibernate 이름 그대로도 지워져, 한 학생이 여러 공간의 열쇠를 가질 수 있음
+        assertDoesNotThrow(() -> jdbcTemplate.update(
+                "INSERT INTO room_key (room_id, student_id, room_key_status) VALUES (1, ?, 'USING')", studentId));
+    }
+
+    @Test
+    void migrate_hibernateBaselineSchema_endsInSameSchemaAsFreshDatabase() {
+        // given
+        DataSource baselined = createDatabase();
+        loadBaselineSchema(baselined);
+        DataSource fresh = createDatabase();
+
+        // when
+        migrate(baselined);
+        migrate(fresh);
+
+        // then
+        JdbcTemplate baselinedTemplate = new JdbcTemplate(baselined);
+        JdbcTemplate freshTemplate = new JdbcTemplate(fresh);
+        assertEquals(columns(freshTemplate), columns(baselinedTemplate));
+        assertEquals(indexes(freshTemplate), indexes(baselinedTemplate));
+        assertEquals(foreignKeys(freshTemplate), foreignKeys(baselinedTemplate));
+        assertEquals(1, indexCount(baselinedTemplate, "student", "uk_student_student_number"));
+        assertEquals(1, indexCount(baselinedTemplate, "reservation_black_list", "uk_reservation_black_list_student"));
+    }
+
+    private static void loadBaselineSchema(DataSource dataSource) {
+        ResourceDatabasePopulator baselineSchema = new ResourceDatabasePopulator(new ClassPathResource("db/baseline/hibernate_schema.sql"));
+        baselineSchema.setSqlScriptEncoding("UTF-8");
+        baselineSchema.execute(dataSource);
+    }
+
+    private static DataSource createDatabase() {
+        String database = "baselined_" + DATABASE_SEQUENCE.incrementAndGet();
+        new JdbcTemplate(dataSource(MYSQL.getJdbcUrl())).execute("CREATE DATABASE " + database);
+        //컨테이너 URL의 접속 옵션은 그대로 두고 database만 바꿈
+        return dataSource(MYSQL.getJdbcUrl().replace("/" + MYSQL.getDatabaseName(), "/" + database));
+    }
+
+    private static DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, MYSQL.getUsername(), MYSQL.getPassword());
+    }
+
+    /**
+     * application.yml의 spring.flyway 설정과 같이 baseline-on-migrate, baseline-version 1로 마이그레이션합니다.
+     */
+    private static void migrate(DataSource dataSource) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private static List<String> columns(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("""
+                SELECT CONCAT_WS(' ', table_name, column_name, column_type, is_nullable)
+                FROM information_schema.columns
+                WHERE table_schema = database() AND table_name <> 'flyway_schema_history'
+                ORDER BY table_name, column_name
+                """, String.class);
+    }
+
+    /**
+     * foreign key가 쓰려고 MySQL이 자동으로 만든 인덱스는 제약 이름을 따르므로 비교에서 뺍니다.
+     */
+    private static List<String> indexes(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("""
+                SELECT CONCAT_WS(' ', s.table_name, s.index_name, s.non_unique,
+                                 GROUP_CONCAT(s.column_name ORDER BY s.seq_in_index))
+                FROM information_schema.statistics s
+                WHERE s.table_schema = database()
+                  AND s.table_name <> 'flyway_schema_history'
+                  AND s.index_name NOT IN (SELECT constraint_name FROM information_schema.referential_constraints
+                                           WHERE constraint_schema = database())
+                GROUP BY s.table_name, s.index_name, s.non_unique
+                ORDER BY s.table_name, s.index_name
+                """, String.class);
+    }
+
+    /**
+     * foreign key 이름은 DB마다 다르므로 컬럼과 참조 테이블만 비교합니다.
+     */
+    private static List<String> foreignKeys(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("""
+                SELECT CONCAT_WS(' ', table_name, column_name, referenced_table_name, referenced_column_name)
+                FROM information_schema.key_column_usage
+                WHERE table_schema = database() AND referenced_table_name IS NOT NULL
+                ORDER BY table_name, column_name
+                """, String.class);
+    }
+
+    private static int indexCount(JdbcTemplate jdbcTemplate, String table, String index) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(DISTINCT index_name) FROM information_schema.statistics
+                WHERE table_schema = database() AND table_name = ? AND index_name = ?
+                """, Integer.class, table, index);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,38 @@
+package com.knucse.diy.domain.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate가 만든 SQL을 실행 직전에 기록합니다.
+ * 스케줄러 등 다른 스레드의 쿼리가 섞이지 않도록 start()를 호출한 스레드의 SQL만 기록합니다.
+ * hibernate.session_factory.statement_inspector 설정으로 등록하므로 public 기본 생성자가 필요합니다.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    /**
+     * 기록을 멈추고 start() 이후 기록한 SQL을 반환합니다.
+     */
+    static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured != null ? captured : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,330 @@
+package com.knucse.diy.domain.persistence;
+
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.key.RoomKeyHistoryRepository;
+import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션으로 만든 MySQL 스키마에서 repository finder들이 인덱스를 타는지 EXPLAIN으로 검사합니다.
+ * finder를 실제로 실행해 Hibernate가 만든 SQL을 CapturingStatementInspector로 기록하고 그 SQL을 EXPLAIN합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.knucse.diy.domain.persistence.CapturingStatementInspector")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaMigrationExplainTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final int STUDENT_COUNT = 60;
+
+    private static final int DAY_COUNT = 400;
+
+    private static final int RESERVATIONS_PER_DAY = 8;
+
+    //V5에서 만든 기본 공간
+    private static final long ROOM_ID = 1L;
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    private static final LocalDateTime BASE_DATETIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private static final List<String> ROOM_DATE_INDEXES =
+            List.of("idx_reservation_room_date_start", "idx_reservation_room_date_status_time");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomKeyHistoryRepository roomKeyHistoryRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    /**
+     * 행이 거의 없으면 옵티마이저가 인덱스 대신 full scan을 고르므로, 실제와 비슷한 분포의 데이터를 넣고 통계를 갱신합니다.
+     */
+    @BeforeAll
+    void seed() {
+        List<Object[]> students = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            students.add(new Object[]{"2025" + String.format("%06d", i), "학생" + i, "ROLE_STUDENT"});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO student (student_number, name, role) VALUES (?, ?, ?)", students);
+
+        List<Long> studentIds = jdbcTemplate.queryForList("SELECT student_id FROM student", Long.class);
+
+        List<Object[]> reservations = new ArrayList<>();
+        for (int day = 0; day < DAY_COUNT; day++) {
+            for (int slot = 0; slot < RESERVATIONS_PER_DAY; slot++) {
+                int seq = day * RESERVATIONS_PER_DAY + slot;
+                String status = seq % 100 == 0 ? "PENDING" : seq % 3 == 0 ? "CANCELLED" : "APPROVED";
+                reservations.add(new Object[]{
+                        studentIds.get(seq % STUDENT_COUNT),
+                        ROOM_ID,
+                        Date.valueOf(BASE_DATE.plusDays(day)),
+                        Time.valueOf(LocalTime.of(8 + slot, 0)),
+                        Time.valueOf(LocalTime.of(9 + slot, 0)),
+                        "explain",
+                        status
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservation (student_id, room_id, reservation_date, start_time, end_time, reason, status)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, reservations);
+
+        List<Object[]> histories = new ArrayList<>();
+        for (int i = 0; i < DAY_COUNT * RESERVATIONS_PER_DAY; i++) {
+            histories.add(new Object[]{
+                    ROOM_ID,
+                    "학생" + (i % STUDENT_COUNT),
+                    "2025" + String.format("%06d", i % STUDENT_COUNT),
+                    Timestamp.valueOf(BASE_DATETIME.plusHours(i)),
+                    i % 2 == 0 ? "USING" : "KEEPING"
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO room_key_history (room_id, student_name, student_number, datetime, room_key_status)
+                VALUES (?, ?, ?, ?, ?)
+                """, histories);
+
+        List<Object[]> blackList = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            blackList.add(new Object[]{studentIds.get(i), Timestamp.valueOf(BASE_DATETIME.plusDays(i))});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reservation_black_list (student_id, created_at) VALUES (?, ?)", blackList);
+
+        jdbcTemplate.execute("ANALYZE TABLE student, reservation, room_key_history, reservation_black_list");
+    }
+
+    @Test
+    void migrations_allApplied() {
+        Integer failed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = 0", Integer.class);
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE version IS NOT NULL ORDER BY installed_rank",
+                String.class);
+
+        assertEquals(0, failed);
+        assertEquals(List.of("1", "1.1", "2", "3", "4", "5", "6"), versions);
+    }
+
+    @Test
+    void findByStudentAndRoomAndReservationDate_usesStudentDateStartIndex() {
+        Student student = firstStudent();
+        LocalDate date = BASE_DATE.plusDays(10);
+
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_student_date_start"),
+                () -> reservationRepository.findByStudentAndRoomAndReservationDate(student, ROOM_ID, date),
+                student.getId(), ROOM_ID, Date.valueOf(date));
+    }
+
+    @Test
+    void findUpcomingReservations_usesStudentDateStartIndex() {
+        Student student = firstStudent();
+        LocalDate today = BASE_DATE.plusDays(DAY_COUNT - 20);
+
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_student_date_start"),
+                () -> reservationRepository.findUpcomingReservations(student, today, LocalTime.NOON),
+                student.getId(), Date.valueOf(today), Date.valueOf(today), Time.valueOf(LocalTime.NOON));
+    }
+
+    @Test
+    void findPageByStatus_usesStatusIndex() {
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_status"),
+                () -> reservationRepository.findPageByStatus(ReservationStatus.PENDING, PageRequest.of(0, 21)),
+                "PENDING", 21);
+    }
+
+    @Test
+    void findPageByStatusAfter_usesStatusIndex() {
+        LocalDate cursorDate = BASE_DATE.plusDays(DAY_COUNT / 2);
+
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_status"),
+                () -> reservationRepository.findPageByStatusAfter(ReservationStatus.APPROVED,
+                        cursorDate, LocalTime.NOON, 1L, PageRequest.of(0, 21)),
+                "APPROVED", Date.valueOf(cursorDate), Date.valueOf(cursorDate),
+                Time.valueOf(LocalTime.NOON), Time.valueOf(LocalTime.NOON), 1L, 21);
+    }
+
+    @Test
+    void findPageByStudentAfter_usesStudentDateStartIndex() {
+        Student student = firstStudent();
+        LocalDate cursorDate = BASE_DATE.plusDays(DAY_COUNT / 2);
+
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_student_date_start"),
+                () -> reservationRepository.findPageByStudentAfter(student,
+                        cursorDate, LocalTime.NOON, 1L, PageRequest.of(0, 21)),
+                student.getId(), Date.valueOf(cursorDate), Date.valueOf(cursorDate),
+                Time.valueOf(LocalTime.NOON), Time.valueOf(LocalTime.NOON), 1L, 21);
+    }
+
+    @Test
+    void findClosestReservations_usesRoomDateStartIndex() {
+        LocalDate today = BASE_DATE.plusDays(DAY_COUNT - 20);
+
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_room_date_start"),
+                () -> reservationRepository.findClosestReservations(ROOM_ID, today, LocalTime.NOON, PageRequest.of(0, 5)),
+                ROOM_ID, Date.valueOf(today), Date.valueOf(today), Time.valueOf(LocalTime.NOON), 5);
+    }
+
+    @Test
+    void findReservationsWithinDateRange_doesNotScanTable() {
+        LocalDate startDate = BASE_DATE.plusDays(31);
+        LocalDate endDate = BASE_DATE.plusDays(58);
+
+        //두 room 인덱스 모두 (room_id, reservation_date) 범위로 읽으므로 어느 쪽이든 허용
+        assertGeneratedQueryUsesIndex("reservation", ROOM_DATE_INDEXES,
+                () -> reservationRepository.findReservationsWithinDateRange(ROOM_ID, startDate, endDate),
+                ROOM_ID, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Test
+    void findSlotsWithinDateRange_doesNotScanTable() {
+        LocalDate startDate = BASE_DATE.plusDays(31);
+        LocalDate endDate = BASE_DATE.plusDays(58);
+
+        assertGeneratedQueryUsesIndex("reservation", ROOM_DATE_INDEXES,
+                () -> reservationRepository.findSlotsWithinDateRange(ROOM_ID, startDate, endDate),
+                ROOM_ID, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    @Test
+    void existsOverlapping_usesRoomDateStatusTimeIndex() {
+        LocalDate date = BASE_DATE.plusDays(10);
+        LocalTime startTime = LocalTime.of(10, 0);
+        LocalTime endTime = LocalTime.of(12, 0);
+
+        //r.startTime < :endTime AND r.endTime > :startTime AND (:excludeId IS NULL OR r.id <> :excludeId) 순서로 바인딩됨
+        assertGeneratedQueryUsesIndex("reservation", List.of("idx_reservation_room_date_status_time"),
+                () -> reservationRepository.existsOverlapping(ROOM_ID, date, startTime, endTime, null),
+                ROOM_ID, Date.valueOf(date), Time.valueOf(endTime), Time.valueOf(startTime), null, null);
+    }
+
+    @Test
+    void roomKeyHistoryPage_usesDatetimeIndex() {
+        LocalDateTime to = BASE_DATETIME.plusHours(DAY_COUNT * RESERVATIONS_PER_DAY);
+        LocalDateTime from = to.minusDays(30);
+
+        //null인 roomId, studentNumber, status 필터는 (? IS NULL OR ... = ?)로 각각 두 번씩 바인딩됨
+        assertGeneratedQueryUsesIndex("room_key_history", List.of("idx_room_key_history_datetime"),
+                () -> roomKeyHistoryRepository.findPage(from, to, null, null, null, PageRequest.of(0, 51)),
+                Timestamp.valueOf(from), null, null, null, null, null, null, Timestamp.valueOf(to), 51);
+    }
+
+    @Test
+    void roomKeyHistoryPageByStudent_usesStudentDatetimeIndex() {
+        LocalDateTime to = BASE_DATETIME.plusHours(DAY_COUNT * RESERVATIONS_PER_DAY);
+        LocalDateTime from = to.minusDays(30);
+        String studentNumber = "2025000001";
+
+        assertGeneratedQueryUsesIndex("room_key_history", List.of("idx_room_key_history_student_datetime"),
+                () -> roomKeyHistoryRepository.findPage(from, to, null, studentNumber, null, PageRequest.of(0, 51)),
+                Timestamp.valueOf(from), null, null, studentNumber, studentNumber, null, null,
+                Timestamp.valueOf(to), 51);
+    }
+
+    /**
+     * sweep은 Hibernate를 거치지 않고 ReservationBlackListSweeper가 이 SQL을 JdbcTemplate으로 직접 실행합니다.
+     */
+    @Test
+    void sweepExpiredBlackList_usesCreatedAtIndex() {
+        assertUsesIndex("reservation_black_list", "idx_reservation_black_list_created_at", """
+                SELECT student_id FROM reservation_black_list
+                WHERE created_at < ?
+                ORDER BY reservation_id
+                LIMIT 500
+                """, Timestamp.valueOf(BASE_DATETIME.plusDays(3)));
+    }
+
+    private Long firstStudentId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(student_id) FROM student", Long.class);
+    }
+
+    private Student firstStudent() {
+        return studentRepository.findById(firstStudentId()).orElseThrow();
+    }
+
+    /**
+     * finder를 실행해 Hibernate가 만든 SQL을 기록하고, 같은 SQL을 args로 바인딩해 EXPLAIN합니다.
+     * args는 SQL에 ?가 나오는 순서대로 넘기며, Pageable의 limit는 마지막 ?로 바인딩됩니다.
+     */
+    private void assertGeneratedQueryUsesIndex(String table, List<String> indexes, Runnable finder, Object... args) {
+        List<String> captured;
+        CapturingStatementInspector.start();
+        try {
+            finder.run();
+        } finally {
+            captured = CapturingStatementInspector.stop();
+        }
+        assertEquals(1, captured.size(), () -> "expected one statement: " + captured);
+
+        String sql = captured.get(0);
+        assertEquals(args.length, sql.chars().filter(c -> c == '?').count(), () -> "bind count mismatch: " + sql);
+        assertUsesAnyIndex(tableAlias(sql, table), indexes, sql, args);
+    }
+
+    /**
+     * Hibernate는 FROM/JOIN의 테이블에 r1_0 같은 alias를 붙이고, EXPLAIN의 table 컬럼에는 그 alias가 나옵니다.
+     */
+    private String tableAlias(String sql, String table) {
+        Matcher matcher = Pattern.compile("(?i)\\b(?:from|join)\\s+" + table + "\\s+(\\w+)").matcher(sql);
+        return matcher.find() ? matcher.group(1) : table;
+    }
+
+    /**
+     * table(alias)에 대한 EXPLAIN 행이 full scan(type=ALL)이 아니고, 옵티마이저가 실제로 index를 고르는지 확인합니다.
+     */
+    private void assertUsesIndex(String table, String index, String sql, Object... args) {
+        assertUsesAnyIndex(table, List.of(index), sql, args);
+    }
+
+    private void assertUsesAnyIndex(String table, List<String> indexes, String sql, Object... args) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        Map<String, Object> row = plan.stream()
+                .filter(candidate -> table.equals(candidate.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no plan row for " + table + ": " + plan));
+
+        assertNotEquals("ALL", row.get("type"), () -> "full scan: " + plan);
+        assertTrue(indexes.contains(String.valueOf(row.get("key"))),
+                () -> "expected key in " + indexes + ": " + plan);
+    }
+}
@@ -0,0 +1,93 @@
+package com.knucse.diy.domain.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimerWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+
+    private final Map<String, Long> expired = new ConcurrentHashMap<>();
+
+    private HashedTimerWheel<String, Long> wheel;
+
+    @BeforeEach
+    void setUp() {
+        //한 바퀴 80ms, 그보다 먼 마감은 rounds로 처리
+        wheel = new HashedTimerWheel<>("test-wheel", TICK_MILLIS, 8, (key, value) -> expired.put(key, System.currentTimeMillis()));
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        wheel.stop();
+    }
+
+    @Test
+    void schedule_firesAfterDeadline() throws InterruptedException {
+        // given
+        long deadline = System.currentTimeMillis() + 250;
+
+        // when
+        wheel.schedule("key", 1L, deadline);
+
+        // then
+        waitUntil(() -> expired.containsKey("key"), 2000);
+        assertTrue(expired.get("key") >= deadline);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_pastDeadline_firesOnNextTick() throws InterruptedException {
+        // when
+        wheel.schedule("key", 1L, System.currentTimeMillis() - 60_000);
+
+        // then
+        waitUntil(() -> expired.containsKey("key"), 500);
+        assertTrue(expired.containsKey("key"));
+    }
+
+    @Test
+    void cancel_preventsExpiry() throws InterruptedException {
+        // given
+        wheel.schedule("key", 1L, System.currentTimeMillis() + 100);
+
+        // when
+        wheel.cancel("key");
+        Thread.sleep(300);
+
+        // then
+        assertFalse(expired.containsKey("key"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_sameKey_replacesPreviousDeadline() throws InterruptedException {
+        // given
+        long later = System.currentTimeMillis() + 400;
+        wheel.schedule("key", 1L, System.currentTimeMillis() + 50);
+
+        // when
+        wheel.schedule("key", 2L, later);
+        Thread.sleep(200);
+
+        // then
+        assertFalse(expired.containsKey("key"));
+        waitUntil(() -> expired.containsKey("key"), 2000);
+        assertTrue(expired.get("key") >= later);
+    }
+
+    private void waitUntil(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long until = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < until) {
+            Thread.sleep(TICK_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.knucse.diy.domain.scheduler;
+
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.reservation.ReservationBlackListRepository;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import com.knucse.diy.domain.service.reservation.ReservationBlackListSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * chunk마다 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest(properties = "reservation.black-list.sweep-chunk-size=3")
+class ReservationBlackListSweeperTest {
+
+    private static final String STUDENT_NAME = "블랙리스트만료";
+
+    @Autowired
+    private ReservationBlackListSweeper reservationBlackListSweeper;
+
+    @Autowired
+    private ReservationBlackListSet reservationBlackListSet;
+
+    @Autowired
+    private ReservationBlackListRepository reservationBlackListRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Student> students = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        for (Student student : students) {
+            jdbcTemplate.update("DELETE FROM reservation_black_list WHERE student_id = ?", student.getId());
+        }
+        studentRepository.deleteAll(students);
+        reservationBlackListSet.refresh();
+    }
+
+    @Test
+    void sweepBefore_removesOnlyExpiredRowsInChunks() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 8; i++) {
+            Student student = studentRepository.save(new Student("B" + String.format("%04d", i), STUDENT_NAME, Role.ROLE_STUDENT));
+            students.add(student);
+            //앞의 7명은 40일 전, 마지막 1명은 방금 등록
+            LocalDateTime createdAt = i < 7 ? now.minusDays(40) : now;
+            jdbcTemplate.update("INSERT INTO reservation_black_list (student_id, created_at, updated_at) VALUES (?, ?, ?)",
+                    student.getId(), Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+        }
+        reservationBlackListSet.refresh();
+
+        // when
+        ReservationBlackListSweeper.SweepResult result = reservationBlackListSweeper.sweepBefore(now.minusDays(30));
+
+        // then
+        assertEquals(7, result.removed());
+        assertEquals(3, result.chunks());
+        for (int i = 0; i < 7; i++) {
+            assertFalse(reservationBlackListRepository.existsByStudent(students.get(i)));
+            assertFalse(reservationBlackListSet.contains(students.get(i).getId()));
+        }
+        assertTrue(reservationBlackListRepository.existsByStudent(students.get(7)));
+        assertTrue(reservationBlackListSet.contains(students.get(7).getId()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.knucse.diy.domain.service.event;
+
+import com.knucse.diy.api.event._anonymous.EventAnonymousController;
+import com.knucse.diy.domain.event.key.RoomKeyChangedEvent;
+import com.knucse.diy.domain.event.reservation.ReservationChangedEvent;
+import com.knucse.diy.domain.exception.event.EventClientSubscriberLimitExceededException;
+import com.knucse.diy.domain.exception.event.EventMonthsExceededException;
+import com.knucse.diy.domain.exception.event.EventSubscriberLimitExceededException;
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.service.room.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ChangeEventBroadcasterTest {
+
+    private static final long ROOM_ID = 1L;
+
+    private static final String CLIENT = "10.0.0.1";
+
+    private final ChangeEventBroadcaster broadcaster = new ChangeEventBroadcaster(64, 3, 2, 2, 60_000, 10_000, 1, 4);
+
+    private final MockMvc mockMvc;
+
+    ChangeEventBroadcasterTest() {
+        RoomService roomService = mock(RoomService.class);
+        when(roomService.resolveRoomId(any())).thenReturn(ROOM_ID);
+        this.mockMvc = MockMvcBuilders
+                .standaloneSetup(new EventAnonymousController(broadcaster, roomService))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_receivesOnlySubscribedMonthReservationEvents() throws Exception {
+        // given
+        MockHttpServletResponse response = subscribe("2025-03");
+        awaitContent(response, "event:subscribed");
+
+        // when
+        broadcaster.onReservationChanged(reservationEvent(101L, LocalDate.of(2025, 4, 2)));
+        broadcaster.onReservationChanged(reservationEvent(100L, LocalDate.of(2025, 3, 14)));
+
+        // then
+        awaitContent(response, "\"reservationId\":100");
+        assertFalse(response.getContentAsString().contains("\"reservationId\":101"));
+        assertTrue(response.getContentAsString().contains("event:reservation"));
+    }
+
+    @Test
+    void subscribe_receivesRoomKeyEventsWithoutHolder() throws Exception {
+        // given
+        MockHttpServletResponse response = subscribe("2025-03");
+        awaitContent(response, "event:subscribed");
+
+        // when
+        broadcaster.onRoomKeyChanged(RoomKeyChangedEvent.of(7L, ROOM_ID, 42L, RoomKeyStatus.KEEPING));
+
+        // then
+        awaitContent(response, "event:room-key");
+        String content = response.getContentAsString();
+        assertTrue(content.contains("\"keyId\":7"));
+        assertFalse(content.contains("holder"));
+    }
+
+    @Test
+    void subscribe_tooManyMonths_throwsException() {
+        // given
+        List<YearMonth> months = List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 2), YearMonth.of(2025, 3));
+
+        // when & then
+        assertThrows(EventMonthsExceededException.class, () -> broadcaster.subscribe(CLIENT, ROOM_ID, months));
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void subscribe_overSubscriberLimit_throwsException() {
+        // given
+        List<YearMonth> months = List.of(YearMonth.of(2025, 3));
+        broadcaster.subscribe("10.0.0.1", ROOM_ID, months);
+        broadcaster.subscribe("10.0.0.2", ROOM_ID, months);
+        broadcaster.subscribe("10.0.0.3", ROOM_ID, months);
+
+        // when & then
+        assertThrows(EventSubscriberLimitExceededException.class, () -> broadcaster.subscribe("10.0.0.4", ROOM_ID, months));
+        assertEquals(3, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void subscribe_overClientLimit_throwsException() {
+        // given
+        List<YearMonth> months = List.of(YearMonth.of(2025, 3));
+        broadcaster.subscribe(CLIENT, ROOM_ID, months);
+        broadcaster.subscribe(CLIENT, ROOM_ID, months);
+
+        // when & then
+        assertThrows(EventClientSubscriberLimitExceededException.class, () -> broadcaster.subscribe(CLIENT, ROOM_ID, months));
+        assertEquals(2, broadcaster.subscriberCount());
+        assertDoesNotThrow(() -> broadcaster.subscribe("10.0.0.2", ROOM_ID, months));
+    }
+
+    private MockHttpServletResponse subscribe(String month) throws Exception {
+        MvcResult result = mockMvc.perform(get("/application/events").param("month", month))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse();
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString().contains(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("SSE stream did not contain " + expected + ": " + response.getContentAsString());
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static ReservationChangedEvent reservationEvent(Long reservationId, LocalDate date) {
+        return new ReservationChangedEvent(
+                reservationId,
+                ROOM_ID,
+                date,
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0),
+                ReservationStatus.APPROVED,
+                false
+        );
+    }
+}
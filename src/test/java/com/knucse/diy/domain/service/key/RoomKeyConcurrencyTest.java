@@ -0,0 +1,192 @@
+package com.knucse.diy.domain.service.key;
+
+import com.knucse.diy.api.key.dto.KeyReadDto;
+import com.knucse.diy.api.key.dto.KeyRentDto;
+import com.knucse.diy.api.key.dto.KeyReturnDto;
+import com.knucse.diy.domain.exception.key.KeyStatusMissException;
+import com.knucse.diy.domain.model.key.RoomKey;
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import com.knucse.diy.domain.model.reservation.Reservation;
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.key.RoomKeyHistoryRepository;
+import com.knucse.diy.domain.persistence.key.RoomKeyRepository;
+import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import com.knucse.diy.domain.service.room.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시에 들어오는 대여 요청이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ * 열쇠 기록이 테스트 종료 전에 저장되도록 SYNC 모드로 실행합니다.
+ */
+@SpringBootTest(properties = "roomkey.history.durability=SYNC")
+class RoomKeyConcurrencyTest {
+
+    private static final int THREAD_COUNT = 50;
+
+    @Autowired
+    private RoomKeyService roomKeyService;
+
+    @Autowired
+    private RoomKeyRepository roomKeyRepository;
+
+    @Autowired
+    private RoomKeyHistoryRepository roomKeyHistoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Student> students = new ArrayList<>();
+
+    private RoomKey createdKey;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            students.add(new Student("K" + i, "열쇠경합" + i, Role.ROLE_STUDENT));
+        }
+        studentRepository.saveAll(students);
+
+        List<Reservation> reservations = new ArrayList<>();
+        for (Student student : students) {
+            reservations.add(Reservation.builder()
+                    .student(student)
+                    .room(roomService.findRoomById(RoomService.DEFAULT_ROOM_ID))
+                    .reservationDate(LocalDate.now())
+                    .startTime(LocalTime.of(0, 0))
+                    .endTime(LocalTime.of(23, 59))
+                    .reason("열쇠 경합")
+                    .status(ReservationStatus.APPROVED)
+                    .build());
+        }
+        reservationRepository.saveAll(reservations);
+
+        if (roomKeyRepository.findFirstKeyByRoom(RoomService.DEFAULT_ROOM_ID).isEmpty()) {
+            createdKey = roomKeyRepository.save(new RoomKey(
+                    roomService.findRoomById(RoomService.DEFAULT_ROOM_ID), null, RoomKeyStatus.KEEPING));
+        }
+        roomKeyService.updateRoomKey(RoomService.DEFAULT_ROOM_ID, null, RoomKeyStatus.KEEPING);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        roomKeyService.updateRoomKey(RoomService.DEFAULT_ROOM_ID, null, RoomKeyStatus.KEEPING);
+        if (createdKey != null) {
+            roomKeyRepository.delete(createdKey);
+        }
+        students.forEach(student -> {
+            reservationRepository.deleteAll(reservationRepository.findByStudent(student));
+            roomKeyHistoryRepository.deleteAll(roomKeyHistoryRepository.findByStudentName(student.getStudentName()));
+            //미반납 처리로 추가된 블랙리스트
+            jdbcTemplate.update("DELETE FROM reservation_black_list WHERE student_id = ?", student.getId());
+        });
+        studentRepository.deleteAll(students);
+        students.clear();
+    }
+
+    @Test
+    void rentKey_concurrently_exactlyOneWinner() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger statusMissCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+        AtomicReference<String> winner = new AtomicReference<>();
+
+        // when
+        for (Student student : students) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    roomKeyService.rentKey(new KeyRentDto(student.getStudentName(), student.getStudentNumber()));
+                    successCount.incrementAndGet();
+                    winner.set(student.getStudentNumber());
+                } catch (KeyStatusMissException e) {
+                    statusMissCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    otherFailureCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(1, TimeUnit.MINUTES));
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(THREAD_COUNT - 1, statusMissCount.get());
+        assertEquals(0, otherFailureCount.get());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            RoomKey key = roomKeyRepository.findFirstKeyByRoom(RoomService.DEFAULT_ROOM_ID).orElseThrow();
+            assertEquals(RoomKeyStatus.USING, key.getStatus());
+            assertEquals(winner.get(), key.getHolder().getStudentNumber());
+        });
+
+        long usingHistories = students.stream()
+                .flatMap(student -> roomKeyHistoryRepository.findByStudentName(student.getStudentName()).stream())
+                .filter(history -> history.getStatus() == RoomKeyStatus.USING)
+                .count();
+        assertEquals(1, usingHistories);
+    }
+
+    @Test
+    void returnKey_afterNotReturned_sameHolderCanReturn() {
+        // given
+        Student holder = students.get(0);
+        KeyReadDto rented = roomKeyService.rentKey(new KeyRentDto(holder.getStudentName(), holder.getStudentNumber()));
+        assertTrue(roomKeyService.markNotReturned(rented.id(), holder.getId()));
+
+        // when
+        KeyReadDto returned = roomKeyService.returnKey(new KeyReturnDto(holder.getStudentName(), holder.getStudentNumber()));
+
+        // then
+        assertEquals(RoomKeyStatus.KEEPING, returned.status());
+        transactionTemplate.executeWithoutResult(status -> {
+            RoomKey key = roomKeyRepository.findFirstKeyByRoom(RoomService.DEFAULT_ROOM_ID).orElseThrow();
+            assertEquals(RoomKeyStatus.KEEPING, key.getStatus());
+        });
+    }
+}
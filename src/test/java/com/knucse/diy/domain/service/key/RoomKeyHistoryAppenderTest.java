@@ -0,0 +1,59 @@
+package com.knucse.diy.domain.service.key;
+
+import com.knucse.diy.domain.model.key.RoomKeyHistory;
+import com.knucse.diy.domain.model.key.RoomKeyStatus;
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.key.RoomKeyHistoryRepository;
+import com.knucse.diy.domain.service.room.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 백그라운드 flusher가 실제로 커밋해야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest(properties = "roomkey.history.durability=WRITE_BEHIND")
+class RoomKeyHistoryAppenderTest {
+
+    private static final String STUDENT_NAME = "기록테스트";
+
+    @Autowired
+    private RoomKeyHistoryAppender roomKeyHistoryAppender;
+
+    @Autowired
+    private RoomKeyHistoryRepository roomKeyHistoryRepository;
+
+    @AfterEach
+    void cleanUp() {
+        roomKeyHistoryRepository.deleteAll(roomKeyHistoryRepository.findByStudentName(STUDENT_NAME));
+    }
+
+    @Test
+    void append_outsideTransaction_flushedInBatches() throws InterruptedException {
+        // given
+        Student student = new Student("H0001", STUDENT_NAME, Role.ROLE_STUDENT);
+        int count = 250;
+
+        // when
+        for (int i = 0; i < count; i++) {
+            roomKeyHistoryAppender.append(RoomService.DEFAULT_ROOM_ID, student, i % 2 == 0 ? RoomKeyStatus.USING : RoomKeyStatus.KEEPING);
+        }
+
+        // then
+        List<RoomKeyHistory> histories = List.of();
+        for (int attempt = 0; attempt < 50 && histories.size() < count; attempt++) {
+            Thread.sleep(100);
+            histories = roomKeyHistoryRepository.findByStudentName(STUDENT_NAME);
+        }
+        assertEquals(count, histories.size());
+        assertTrue(histories.stream().allMatch(history -> "H0001".equals(history.getStudentNumber())));
+        assertTrue(histories.stream().allMatch(history -> RoomService.DEFAULT_ROOM_ID == history.getRoomId()));
+        assertTrue(histories.stream().allMatch(history -> history.getCreatedAt() != null));
+    }
+}
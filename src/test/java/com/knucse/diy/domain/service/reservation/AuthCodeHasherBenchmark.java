@@ -0,0 +1,70 @@
+package com.knucse.diy.domain.service.reservation;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BCrypt work factor별 인증번호 해싱/검증 처리량을 측정합니다.
+ * ./gradlew benchmark 로 실행하며, reservation.auth-code.bcrypt-strength 값을 정할 때 참고합니다.
+ */
+@Tag("benchmark")
+class AuthCodeHasherBenchmark {
+
+    private static final int[] STRENGTHS = {4, 6, 8, 10, 12};
+
+    private static final int OPERATIONS = 200;
+
+    private static final int CLIENT_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+
+    @Test
+    void throughputByStrength() throws Exception {
+        System.out.printf("%-8s %14s %14s%n", "strength", "encode ops/s", "matches ops/s");
+
+        for (int strength : STRENGTHS) {
+            AuthCodeHasher hasher = new AuthCodeHasher(strength, 0, OPERATIONS);
+            try {
+                String hashedCode = hasher.encode("1234");
+
+                //warm-up
+                run(() -> hasher.matches("1234", hashedCode), OPERATIONS / 4);
+
+                double encodeThroughput = run(() -> hasher.encode("1234"), OPERATIONS);
+                double matchesThroughput = run(() -> hasher.matches("1234", hashedCode), OPERATIONS);
+
+                System.out.printf("%-8d %14.1f %14.1f%n", strength, encodeThroughput, matchesThroughput);
+                assertTrue(encodeThroughput > 0 && matchesThroughput > 0);
+            } finally {
+                hasher.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 여러 요청 스레드가 동시에 operation을 호출할 때의 초당 처리량
+     */
+    private double run(Runnable operation, int count) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(count);
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                futures.add(clients.submit(operation));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            return count / (elapsed / 1_000_000_000.0);
+        } finally {
+            clients.shutdown();
+        }
+    }
+}
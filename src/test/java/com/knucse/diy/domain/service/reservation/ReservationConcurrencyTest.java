@@ -0,0 +1,175 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.api.reservation.dto.ReservationCreateDto;
+import com.knucse.diy.domain.exception.reservation.ReservationDuplicatedException;
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import com.knucse.diy.domain.service.room.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시에 들어오는 예약 요청이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest
+class ReservationConcurrencyTest {
+
+    private static final int THREAD_COUNT = 200;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private final List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    void makeStudents() {
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            students.add(new Student("C" + i, "동시성" + i, Role.ROLE_STUDENT));
+        }
+        studentRepository.saveAll(students);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        students.forEach(student -> reservationRepository.deleteAll(reservationRepository.findByStudent(student)));
+        studentRepository.deleteAll(students);
+        students.clear();
+    }
+
+    @Test
+    void createReservation_sameSlotConcurrently_onlyOneSucceeds() throws InterruptedException {
+        // given
+        LocalDate date = LocalDate.now().plusDays(7);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger duplicatedCount = new AtomicInteger();
+        AtomicInteger otherFailureCount = new AtomicInteger();
+
+        // when
+        runConcurrently(index -> {
+            Student student = students.get(index);
+            ReservationCreateDto createDto = new ReservationCreateDto(
+                    student.getStudentName(), student.getStudentNumber(), date,
+                    LocalTime.of(10, 0), LocalTime.of(12, 0), "동시 예약", "1234"
+            );
+            try {
+                reservationService.createReservation(createDto);
+                successCount.incrementAndGet();
+            } catch (ReservationDuplicatedException e) {
+                duplicatedCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                otherFailureCount.incrementAndGet();
+            }
+        });
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(THREAD_COUNT - 1, duplicatedCount.get());
+        assertEquals(0, otherFailureCount.get());
+        assertEquals(1, reservationRepository.findByRoomAndReservationDate(RoomService.DEFAULT_ROOM_ID, date).stream()
+                .filter(reservation -> reservation.getStatus() != ReservationStatus.CANCELLED)
+                .count());
+    }
+
+    @Test
+    void createReservation_differentDatesConcurrently_allSucceed() throws InterruptedException {
+        // given
+        int dateCount = 20;
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        runConcurrently(index -> {
+            if (index >= dateCount) {
+                return;
+            }
+            Student student = students.get(index);
+            ReservationCreateDto createDto = new ReservationCreateDto(
+                    student.getStudentName(), student.getStudentNumber(), LocalDate.now().plusDays(index + 1),
+                    LocalTime.of(10, 0), LocalTime.of(12, 0), "날짜별 예약", "1234"
+            );
+            reservationService.createReservation(createDto);
+            successCount.incrementAndGet();
+        });
+
+        // then
+        assertEquals(dateCount, successCount.get());
+    }
+
+    @Test
+    void createReservation_slotFreedWithoutEvent_success() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(8);
+        Student first = students.get(0);
+        Student second = students.get(1);
+        reservationService.createReservation(new ReservationCreateDto(
+                first.getStudentName(), first.getStudentNumber(), date,
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "먼저 한 예약", "1234"
+        ));
+
+        //다른 서버 인스턴스에서 삭제된 것처럼, 이 인스턴스의 인덱스에 이벤트가 전달되지 않도록 repository로 바로 삭제
+        reservationRepository.deleteAll(reservationRepository.findByStudent(first));
+
+        ReservationCreateDto createDto = new ReservationCreateDto(
+                second.getStudentName(), second.getStudentNumber(), date,
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "비워진 시간 예약", "1234"
+        );
+
+        // when & then
+        assertDoesNotThrow(() -> reservationService.createReservation(createDto));
+    }
+
+    private void runConcurrently(IndexedTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executorService.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+}
@@ -0,0 +1,205 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 endpoint(생성, 가까운 예약, 기간 조회)에 동시 요청을 보내 플랫폼 스레드와 virtual thread 모드의 처리량과 tail latency를 비교합니다.
+ * 두 모드는 서로 다른 애플리케이션 컨텍스트(Tomcat)로 실행되며, Hikari 풀 크기는 같게 둡니다.
+ * ./gradlew benchmark 로 실행하며, JDK 21 이상과 테스트용 DB가 필요합니다.
+ */
+class ReservationLoadBenchmark {
+
+    private static final int CLIENTS = 400;
+
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+
+    private static final String COMMON_PROPERTIES = "rate-limit.enabled=false";
+
+    private static final String POOL_SIZE = "spring.datasource.hikari.maximum-pool-size=10";
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {COMMON_PROPERTIES, POOL_SIZE, "spring.threads.virtual.enabled=false"})
+    static class PlatformThreads extends Support {
+        @Test
+        void reservationEndpoints() throws Exception {
+            run("platform threads");
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {COMMON_PROPERTIES, POOL_SIZE, "spring.threads.virtual.enabled=true"})
+    static class VirtualThreads extends Support {
+        @Test
+        void reservationEndpoints() throws Exception {
+            run("virtual threads");
+        }
+    }
+
+    //바깥 클래스의 tag는 static nested 클래스에 전달되지 않으므로, @Inherited인 @Tag를 두 모드의 공통 부모에 둠
+    @Tag("benchmark")
+    abstract static class Support {
+
+        @LocalServerPort
+        private int port;
+
+        @Value("${spring.threads.virtual.enabled:false}")
+        private boolean virtualThreads;
+
+        @Autowired
+        private StudentRepository studentRepository;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        private final List<Student> students = new ArrayList<>();
+
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        @BeforeEach
+        void makeStudents() {
+            for (int i = 0; i < CLIENTS; i++) {
+                students.add(new Student("L" + i, "부하" + i, Role.ROLE_STUDENT));
+            }
+            studentRepository.saveAll(students);
+        }
+
+        @AfterEach
+        void cleanUp() {
+            students.forEach(student -> reservationRepository.deleteAll(reservationRepository.findByStudent(student)));
+            studentRepository.deleteAll(students);
+            students.clear();
+        }
+
+        void run(String mode) throws Exception {
+            //요청 스레드 이름으로 실제 모드를 확인할 수는 없으므로, 설정값만 확인
+            assertEquals(mode.startsWith("virtual"), virtualThreads);
+
+            drive(WARM_UP, null);
+
+            List<long[]> latencies = new ArrayList<>();
+            AtomicInteger errors = new AtomicInteger();
+            long elapsedNanos = drive(MEASURE, new Recorder(latencies, errors));
+
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).filter(nanos -> nanos > 0).sorted().toArray();
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("%-16s %10s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+            System.out.printf("%-16s %10.1f %10.2f %10.2f %10.2f %8d%n", mode,
+                    all.length / seconds, percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), errors.get());
+
+            assertTrue(all.length > 0);
+        }
+
+        /**
+         * CLIENTS개의 client가 duration 동안 쉬지 않고 요청을 보냅니다.
+         * 5번 중 1번은 예약 생성(BCrypt + 날짜 lock + insert), 나머지는 조회 요청입니다.
+         */
+        private long drive(Duration duration, Recorder recorder) throws Exception {
+            long start = System.nanoTime();
+            long deadline = start + duration.toNanos();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int c = 0; c < CLIENTS; c++) {
+                    int client = c;
+                    futures.add(clients.submit(() -> {
+                        long[] samples = new long[1 << 16];
+                        int count = 0;
+                        for (int i = 0; System.nanoTime() < deadline && count < samples.length; i++) {
+                            HttpRequest request = request(client, i);
+                            long sent = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() >= 500 && recorder != null) {
+                                    recorder.errors().incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                if (recorder != null) {
+                                    recorder.errors().incrementAndGet();
+                                }
+                                continue;
+                            }
+                            samples[count++] = System.nanoTime() - sent;
+                        }
+                        if (recorder != null) {
+                            synchronized (recorder.latencies()) {
+                                recorder.latencies().add(Arrays.copyOf(samples, count));
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            return System.nanoTime() - start;
+        }
+
+        private HttpRequest request(int client, int iteration) {
+            String base = "http://localhost:" + port + "/application";
+            if (iteration % 5 == 0) {
+                //대부분 시간 중복이나 하루 예약 제한으로 409가 되지만, 해싱/lock/검사 비용은 같음
+                LocalDate date = LocalDate.now().plusDays(1 + (client + iteration) % 28);
+                int hour = 8 + (client + iteration) % 12;
+                String body = """
+                        {"studentName":"부하%d","studentNumber":"L%d","reservationDate":"%s",
+                         "startTime":"%02d:00:00","endTime":"%02d:30:00","reason":"load","authCode":"1234"}
+                        """.formatted(client, client, date, hour, hour);
+                return HttpRequest.newBuilder(URI.create(base + "/reservation/create"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            if (iteration % 2 == 0) {
+                return HttpRequest.newBuilder(URI.create(base + "/reservation/closest")).GET().build();
+            }
+            LocalDate from = LocalDate.now().plusDays(client % 14);
+            return HttpRequest.newBuilder(URI.create(base + "/reservation/range?startDate=" + from + "&endDate=" + from.plusDays(6)))
+                    .GET()
+                    .build();
+        }
+
+        private static double percentile(long[] sortedNanos, double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+
+        private record Recorder(List<long[]> latencies, AtomicInteger errors) {
+        }
+    }
+}
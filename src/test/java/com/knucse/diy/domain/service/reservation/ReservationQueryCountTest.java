@@ -0,0 +1,148 @@
+package com.knucse.diy.domain.service.reservation;
+
+import com.knucse.diy.api.reservation.dto.ReservationPageDto;
+import com.knucse.diy.api.reservation.dto.ReservationReadDto;
+import com.knucse.diy.domain.model.reservation.Reservation;
+import com.knucse.diy.domain.model.reservation.ReservationStatus;
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import com.knucse.diy.domain.service.room.RoomService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 목록 조회가 학생 수와 관계없이 한 번의 쿼리로 끝나는지 검사합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReservationQueryCountTest {
+
+    private static final int STUDENT_COUNT = 5;
+
+    private static final LocalDate BASE_DATE = LocalDate.now().plusDays(3);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationMonthCache reservationMonthCache;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    //공유 테스트 DB에 다른 예약이 있을 수 있으므로 이 테스트가 넣은 예약만 셉니다.
+    private final Set<Long> seededIds = new HashSet<>();
+
+    @BeforeEach
+    void makeReservations() {
+        seededIds.clear();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = studentRepository.save(new Student("Q" + i, "쿼리" + i, Role.ROLE_STUDENT));
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .student(student)
+                    .room(roomService.findRoomById(RoomService.DEFAULT_ROOM_ID))
+                    .reservationDate(BASE_DATE)
+                    .startTime(LocalTime.of(9 + 2 * i, 0))
+                    .endTime(LocalTime.of(10 + 2 * i, 0))
+                    .reason("쿼리 수 검사")
+                    .authCode("hashed")
+                    .status(ReservationStatus.PENDING)
+                    .build());
+            seededIds.add(reservation.getId());
+        }
+
+        //영속성 컨텍스트에 남은 student가 lazy 로딩을 가리지 않도록 비움
+        entityManager.flush();
+        entityManager.clear();
+        reservationMonthCache.evict(RoomService.DEFAULT_ROOM_ID, YearMonth.from(BASE_DATE));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findReservationsByMonth_singleStatement() {
+        List<ReservationReadDto> result = reservationService.findReservationsByMonth(null, YearMonth.from(BASE_DATE));
+
+        assertEquals(STUDENT_COUNT, countSeeded(result));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getReservationsWithinRange_singleStatement() {
+        List<ReservationReadDto> result = reservationService.getReservationsWithinRange(null, BASE_DATE, 1, 1);
+
+        assertEquals(STUDENT_COUNT, countSeeded(result));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findReservationByStatus_singleStatement() {
+        ReservationPageDto result = reservationService.findReservationByStatus(ReservationStatus.PENDING, null, ReservationService.MAX_PAGE_SIZE);
+
+        assertEquals(STUDENT_COUNT, countSeeded(result.reservations()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getClosestReservations_singleStatement() {
+        List<ReservationReadDto> result = reservationService.getClosestReservations(null, ReservationService.MAX_PAGE_SIZE);
+
+        assertEquals(STUDENT_COUNT, countSeeded(result));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void intervalIndex_rangeLoad_singleStatement() {
+        //다른 테스트가 적재했을 수 없는 공간 id
+        Long roomId = Long.MAX_VALUE;
+
+        List<long[]> first = reservationIntervalIndex.occupancy(roomId, BASE_DATE, BASE_DATE.plusDays(6));
+        List<long[]> second = reservationIntervalIndex.occupancy(roomId, BASE_DATE, BASE_DATE.plusDays(6));
+
+        assertEquals(7, first.size());
+        assertEquals(7, second.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private long countSeeded(List<ReservationReadDto> result) {
+        return result.stream()
+                .filter(dto -> seededIds.contains(dto.id()))
+                .count();
+    }
+}
@@ -1,10 +1,14 @@
 package com.knucse.diy.domain.service.reservation;
 
+import com.knucse.diy.api.key.dto.KeyReadDto;
 import com.knucse.diy.api.key.dto.KeyRentDto;
 import com.knucse.diy.api.key.dto.KeyReturnDto;
 import com.knucse.diy.api.reservation.dto.*;
+import com.knucse.diy.api.room.dto.RoomCreateDto;
+import com.knucse.diy.api.room.dto.RoomReadDto;
 import com.knucse.diy.domain.exception.authcode.AuthCodeBadRequestException;
 import com.knucse.diy.domain.exception.authcode.AuthCodeMismatchException;
+import com.knucse.diy.domain.exception.reservation.ReservationBlackListedException;
 import com.knucse.diy.domain.exception.reservation.ReservationDuplicatedException;
 import com.knucse.diy.domain.exception.reservation.ReservationNotFoundException;
 import com.knucse.diy.domain.model.key.RoomKey;
@@ -19,6 +23,7 @@ import com.knucse.diy.domain.persistence.key.RoomKeyRepository;
 import com.knucse.diy.domain.persistence.reservation.ReservationRepository;
 import com.knucse.diy.domain.persistence.student.StudentRepository;
 import com.knucse.diy.domain.service.key.RoomKeyService;
+import com.knucse.diy.domain.service.room.RoomService;
 import com.knucse.diy.domain.service.student.StudentService;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.transaction.AfterTransaction;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -60,6 +66,15 @@ class ReservationServiceIntegrationTest {
     @Autowired
     private RoomKeyHistoryRepository roomKeyHistoryRepository;
 
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ReservationBlackListService reservationBlackListService;
+
+    @Autowired
+    private ReservationBlackListSet reservationBlackListSet;
+
 
     @BeforeEach
     void makeStudent() {
@@ -67,7 +82,15 @@ class ReservationServiceIntegrationTest {
         Student student2 = new Student("123456","호예찬",Role.ROLE_STUDENT);
         studentRepository.save(student);
         studentRepository.save(student2);
-        keyRepository.save(new RoomKey(null, RoomKeyStatus.KEEPING));
+        keyRepository.save(new RoomKey(roomService.findRoomById(RoomService.DEFAULT_ROOM_ID), null, RoomKeyStatus.KEEPING));
+    }
+
+    /**
+     * 테스트 트랜잭션 안에서 refresh()로 적재한 블랙리스트가 롤백 뒤에도 공유 집합에 남지 않도록 커밋된 상태로 다시 적재합니다.
+     */
+    @AfterTransaction
+    void reloadBlackList() {
+        reservationBlackListSet.refresh();
     }
 
     @Test
@@ -121,6 +144,96 @@ class ReservationServiceIntegrationTest {
                 () -> reservationService.createReservation(createDto2));
     }
 
+    @Test
+    void createReservation_touchingSlot_success() {
+        // given
+        ReservationCreateDto createDto1 = new ReservationCreateDto(
+                "John Doe", "12345", LocalDate.now(),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "산사랑 연극 연습", "1234"
+        );
+
+        //시간대는 [시작, 종료) 구간이므로 앞 예약의 종료 시각에 시작하는 예약은 겹치지 않음
+        ReservationCreateDto createDto2 = new ReservationCreateDto(
+                "호예찬", "123456", LocalDate.now(),
+                LocalTime.of(12, 0), LocalTime.of(13, 0), "동아리 회의", "1234"
+        );
+
+        reservationService.createReservation(createDto1);
+
+        // when & then
+        assertDoesNotThrow(() -> reservationService.createReservation(createDto2));
+    }
+
+    @Test
+    void createReservation_containingSlot_throwsException() {
+        // given
+        ReservationCreateDto createDto1 = new ReservationCreateDto(
+                "John Doe", "12345", LocalDate.now(),
+                LocalTime.of(10, 0), LocalTime.of(11, 0), "산사랑 연극 연습", "1234"
+        );
+
+        ReservationCreateDto createDto2 = new ReservationCreateDto(
+                "호예찬", "123456", LocalDate.now(),
+                LocalTime.of(9, 0), LocalTime.of(12, 0), "동아리 회의", "1234"
+        );
+
+        reservationService.createReservation(createDto1);
+
+        // when & then
+        assertThrows(ReservationDuplicatedException.class,
+                () -> reservationService.createReservation(createDto2));
+    }
+
+    @Test
+    void createReservation_sameSlotInOtherRoom_success() {
+        // given
+        RoomReadDto otherRoom = roomService.createRoom(new RoomCreateDto("세미나실"));
+
+        ReservationCreateDto createDto1 = new ReservationCreateDto(
+                "John Doe", "12345", LocalDate.now(),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "산사랑 연극 연습", "1234"
+        );
+
+        ReservationCreateDto createDto2 = new ReservationCreateDto(
+                "John Doe", "12345", LocalDate.now(),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "세미나", "1234", otherRoom.id()
+        );
+
+        // when
+        ReservationReadDto reservation1 = reservationService.createReservation(createDto1);
+        ReservationReadDto reservation2 = reservationService.createReservation(createDto2);
+
+        // then
+        assertEquals(RoomService.DEFAULT_ROOM_ID, reservation1.roomId());
+        assertEquals(otherRoom.id(), reservation2.roomId());
+
+        List<ReservationReadDto> otherRoomReservations = reservationService.getReservationsWithinRange(
+                otherRoom.id(), LocalDate.now(), LocalDate.now());
+        assertEquals(1, otherRoomReservations.size());
+        assertEquals(reservation2.id(), otherRoomReservations.get(0).id());
+    }
+
+    @Test
+    void createReservation_blackListedStudent_throwsException() {
+        // given
+        Student student = studentService.findStudentByNameAndNumber("John Doe", "12345");
+        reservationBlackListService.addToBlackList(student);
+        //테스트 트랜잭션은 커밋되지 않으므로, 같은 트랜잭션에서 다시 적재하여 집합에 반영
+        reservationBlackListSet.refresh();
+
+        ReservationCreateDto createDto = new ReservationCreateDto(
+                "John Doe", "12345", LocalDate.now(),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "산사랑 연극 연습", "1234"
+        );
+
+        // when & then
+        assertTrue(reservationBlackListService.isBlackListed(student));
+        assertThrows(ReservationBlackListedException.class,
+                () -> reservationService.createReservation(createDto));
+        assertTrue(reservationRepository.findByStudentAndRoomAndReservationDate(
+                student, RoomService.DEFAULT_ROOM_ID, LocalDate.now()).isEmpty());
+    }
+
     @Test
     void createReservation_invalidAuthCode_throwsException() {
         // Arrange
@@ -171,6 +284,24 @@ class ReservationServiceIntegrationTest {
                 () -> reservationService.verifyAuthCode(reservationReadDto.id(), "1233"));
     }
 
+    @Test
+    void getAvailability_clampedToBookableWindow() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when
+        List<AvailabilityReadDto> availability = reservationService.getAvailability(
+                null, today.minusDays(10), today.plusDays(40));
+        List<AvailabilityReadDto> pastOnly = reservationService.getAvailability(
+                null, today.minusDays(20), today.minusDays(5));
+
+        // then
+        assertEquals(31, availability.size());
+        assertEquals(today.minusDays(1), availability.get(0).date());
+        assertEquals(today.plusDays(29), availability.get(availability.size() - 1).date());
+        assertTrue(pastOnly.isEmpty());
+    }
+
     @Test
     void findReservationsByMonth_success() {
         // Arrange
@@ -188,7 +319,7 @@ class ReservationServiceIntegrationTest {
         reservationService.createReservation(createDto2);
 
         // Act
-        List<ReservationReadDto> result = reservationService.findReservationsByMonth(YearMonth.of(2024,11));
+        List<ReservationReadDto> result = reservationService.findReservationsByMonth(null, YearMonth.of(2024,11));
 
         // Assert
         assertNotNull(result);
@@ -265,7 +396,7 @@ class ReservationServiceIntegrationTest {
         // Act
         reservationService.updateReservation(updateDto);
 
-        Reservation reservation = reservationService.findReservationById(updateDto.ReservationId());
+        Reservation reservation = reservationService.findReservationById(updateDto.reservationId());
         assertEquals(reservation.getReason(),"호예찬의 수정된 산사랑 연극 연습");
         assertEquals(reservation.getStartTime(),LocalTime.of(12,10));
     }
@@ -300,20 +431,26 @@ class ReservationServiceIntegrationTest {
         Student student = studentService.findStudentByNameAndNumber("John Doe", "12345");
 
         KeyRentDto keyRentDto = new KeyRentDto("John Doe", "12345");
-        RoomKeyStatus roomKeyStatus = keyService.rentKey(keyRentDto);
+        KeyReadDto rentedKey = keyService.rentKey(keyRentDto);
 
-        RoomKey key = keyService.findFirstKey();
+        RoomKey key = keyService.findFirstKey(null);
 
+        assertEquals(RoomKeyStatus.USING, rentedKey.status());
         assertEquals(key.getHolder().getStudentName(),"John Doe");
         assertEquals(key.getStatus(), RoomKeyStatus.USING);
 
+        //반납은 승인된 예약이 있어야 가능
+        reservationService.updateReservationStatus(
+                new ReservationStatusUpdateDto(reservation.id(), ReservationStatus.APPROVED));
 
-        KeyReturnDto returnDto = new KeyReturnDto("John Doe", "12345", "1234");
+        KeyReturnDto returnDto = new KeyReturnDto("John Doe", "12345");
         keyService.returnKey(returnDto);
         System.out.println("----------------------------------------");
 
-        assertNull(key.getHolder());
-        assertEquals(key.getStatus(), RoomKeyStatus.KEEPING);
+        //반납은 조건부 UPDATE로 처리되므로 다시 조회해서 확인. holder는 마지막 사용자로 남음
+        RoomKey returnedKey = keyService.findFirstKey(null);
+        assertEquals(returnedKey.getHolder().getStudentName(), "John Doe");
+        assertEquals(returnedKey.getStatus(), RoomKeyStatus.KEEPING);
 
         List<RoomKeyHistory> byStudentId = roomKeyHistoryRepository.findByStudentName(student.getStudentName());
         for(RoomKeyHistory roomKeyHistory : byStudentId){
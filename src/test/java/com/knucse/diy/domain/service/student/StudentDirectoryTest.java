@@ -0,0 +1,58 @@
+package com.knucse.diy.domain.service.student;
+
+import com.knucse.diy.domain.model.student.Role;
+import com.knucse.diy.domain.model.student.Student;
+import com.knucse.diy.domain.persistence.student.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 저장/삭제가 커밋된 뒤에 디렉터리에 반영되는지 보아야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest
+class StudentDirectoryTest {
+
+    private static final String STUDENT_NUMBER = "D0";
+
+    @Autowired
+    private StudentDirectory studentDirectory;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @AfterEach
+    void cleanUp() {
+        studentRepository.findByStudentNumber(STUDENT_NUMBER).ifPresent(studentRepository::delete);
+    }
+
+    @Test
+    void savedStudent_foundWithoutRefresh() {
+        // given
+        //없는 학번을 먼저 조회해 negative cache에 기록
+        assertTrue(studentDirectory.findByStudentNumber(STUDENT_NUMBER).isEmpty());
+
+        // when
+        Student saved = studentRepository.save(new Student(STUDENT_NUMBER, "디렉터리", Role.ROLE_STUDENT));
+
+        // then
+        assertEquals(saved.getId(), studentDirectory.findByStudentNumber(STUDENT_NUMBER).orElseThrow().getId());
+        assertEquals(saved.getId(), studentDirectory.findByNameAndNumber("디렉터리", STUDENT_NUMBER).orElseThrow().getId());
+    }
+
+    @Test
+    void deletedStudent_notFoundWithoutRefresh() {
+        // given
+        Student saved = studentRepository.save(new Student(STUDENT_NUMBER, "디렉터리", Role.ROLE_STUDENT));
+        assertTrue(studentDirectory.findByStudentNumber(STUDENT_NUMBER).isPresent());
+
+        // when
+        studentRepository.delete(saved);
+
+        // then
+        assertTrue(studentDirectory.findByStudentNumber(STUDENT_NUMBER).isEmpty());
+    }
+}
@@ -0,0 +1,80 @@
+-- Flyway 도입 전 엔티티로 ddl-auto(update)가 만든 운영 DB 스키마.
+-- unique/foreign key 제약 이름은 Hibernate가 테이블, 컬럼 이름을 해시하여 만든 이름입니다.
+-- 이 DB는 baseline-on-migrate 로 V1이 적용된 것으로 기록되고 V1 이후 마이그레이션만 실행됩니다.
+
+create table admin (
+    admin_id bigint not null auto_increment,
+    password varchar(70) not null,
+    role enum ('ROLE_STUDENT','ROLE_DIY_MANAGER'),
+    username varchar(15) not null,
+    primary key (admin_id)
+) engine=InnoDB;
+
+create table reservation (
+    reservation_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    auth_code varchar(255),
+    cancelled_reason varchar(50),
+    end_time time(6) not null,
+    reason varchar(50) not null,
+    reservation_date date not null,
+    start_time time(6) not null,
+    status enum ('PENDING','APPROVED','CANCELLED') not null,
+    student_id bigint not null,
+    primary key (reservation_id)
+) engine=InnoDB;
+
+create table reservation_black_list (
+    reservation_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    student_id bigint not null,
+    primary key (reservation_id)
+) engine=InnoDB;
+
+create table room_key (
+    room_key_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    room_key_status enum ('KEEPING','NOT_RETURNED','USING') not null,
+    student_id bigint,
+    primary key (room_key_id)
+) engine=InnoDB;
+
+create table room_key_history (
+    history_id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    datetime datetime(6),
+    room_key_status enum ('KEEPING','NOT_RETURNED','USING') not null,
+    student_name varchar(255),
+    student_number varchar(255),
+    primary key (history_id)
+) engine=InnoDB;
+
+create table student (
+    student_id bigint not null auto_increment,
+    name varchar(50),
+    role enum ('ROLE_STUDENT','ROLE_DIY_MANAGER'),
+    student_number varchar(15) not null,
+    primary key (student_id)
+) engine=InnoDB;
+
+alter table reservation_black_list
+    add constraint UKbd5ksq3dilgatdp1y97b30kpc unique (student_id);
+
+alter table room_key
+    add constraint UKf02k6om9cg80utav10yflkmdr unique (student_id);
+
+alter table student
+    add constraint UK17gskajnuiawdedks0b3lp8rx unique (student_number);
+
+alter table reservation
+    add constraint FKiuft3416ayrn5538t6bd108fw foreign key (student_id) references student (student_id);
+
+alter table reservation_black_list
+    add constraint FK7ve5rb3rqxh8vkud8epen4l1i foreign key (student_id) references student (student_id);
+
+alter table room_key
+    add constraint FK397sm3lrtw7f4hp85ksehxah2 foreign key (student_id) references student (student_id);